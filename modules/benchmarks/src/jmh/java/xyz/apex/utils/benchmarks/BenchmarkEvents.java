@@ -0,0 +1,73 @@
+package xyz.apex.utils.benchmarks;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ReusableEvent;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+import java.util.function.Consumer;
+
+// events shared between all benchmarks, EventTypes may only be registered once per Event
+public interface BenchmarkEvents
+{
+    final class PlainEvent implements Event
+    {
+        public static final EventType<PlainEvent> EVENT_TYPE = EventType.register(PlainEvent.class);
+    }
+
+    final class CancelEvent extends SimpleCancelableEvent
+    {
+        public static final EventType<CancelEvent> EVENT_TYPE = EventType.register(CancelEvent.class);
+    }
+
+    final class ArgsEvent implements Event
+    {
+        public static final EventType<ArgsEvent> EVENT_TYPE = EventType.register(ArgsEvent.class, String.class, int.class);
+
+        public final String name;
+        public final int value;
+
+        public ArgsEvent(String name, int value)
+        {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    final class PooledEvent implements ReusableEvent
+    {
+        public static final EventType<PooledEvent> EVENT_TYPE = EventType.builder(PooledEvent.class).factory(EventFactory.of(Integer.class, PooledEvent::new)).pooled().register();
+
+        public int value;
+
+        public PooledEvent(Integer value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void reset(Object arg0)
+        {
+            value = (Integer) arg0;
+        }
+    }
+
+    final class CompiledEvent implements Event
+    {
+        public static final EventType<CompiledEvent> EVENT_TYPE = EventType.builder(CompiledEvent.class).compiled().register();
+    }
+
+    // a distinct listener instance per call, so listener sets are never deduplicated
+    static <E extends Event> Consumer<E> newListener(int[] sink)
+    {
+        return new Consumer<>()
+        {
+            @Override
+            public void accept(E event)
+            {
+                sink[0]++;
+            }
+        };
+    }
+}
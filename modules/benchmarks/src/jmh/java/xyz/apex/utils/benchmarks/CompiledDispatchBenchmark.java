@@ -0,0 +1,86 @@
+package xyz.apex.utils.benchmarks;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventResult;
+import xyz.apex.utils.events.EventType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+// generic vs compiled dispatch of the same listener set
+// listeners cycle through several distinct classes, so the generic call site is megamorphic as it would be in a real application
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompiledDispatchBenchmark
+{
+    @Param({ "1", "4", "16", "64" })
+    public int listenerCount;
+
+    private final int[] sink = new int[1];
+    private final List<Consumer<BenchmarkEvents.PlainEvent>> genericListeners = Lists.newArrayList();
+    private final List<Consumer<BenchmarkEvents.CompiledEvent>> compiledListeners = Lists.newArrayList();
+
+    @Setup
+    public void setup()
+    {
+        for(var i = 0; i < listenerCount; i++)
+        {
+            genericListeners.add(newListener(i));
+            compiledListeners.add(newListener(i));
+        }
+
+        genericListeners.forEach(BenchmarkEvents.PlainEvent.EVENT_TYPE::addListener);
+        compiledListeners.forEach(BenchmarkEvents.CompiledEvent.EVENT_TYPE::addListener);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        removeAll(BenchmarkEvents.PlainEvent.EVENT_TYPE, genericListeners);
+        removeAll(BenchmarkEvents.CompiledEvent.EVENT_TYPE, compiledListeners);
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.PlainEvent> generic()
+    {
+        return BenchmarkEvents.PlainEvent.EVENT_TYPE.post();
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.CompiledEvent> compiled()
+    {
+        return BenchmarkEvents.CompiledEvent.EVENT_TYPE.post();
+    }
+
+    // each lambda is its own class
+    private <E extends Event> Consumer<E> newListener(int index)
+    {
+        IntFunction<Consumer<E>> factory = switch(index % 4) {
+            case 0 -> value -> event -> sink[0] += value;
+            case 1 -> value -> event -> sink[0] ^= value;
+            case 2 -> value -> event -> sink[0] |= value;
+            default -> value -> event -> sink[0] -= value;
+        };
+
+        return factory.apply(index);
+    }
+
+    private static <E extends Event> void removeAll(EventType<E> eventType, List<Consumer<E>> listeners)
+    {
+        listeners.forEach(eventType::removeListener);
+        listeners.clear();
+    }
+}
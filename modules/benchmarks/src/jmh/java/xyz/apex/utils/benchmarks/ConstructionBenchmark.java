@@ -0,0 +1,71 @@
+package xyz.apex.utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventResult;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+// event construction, reflective baseline vs bound factories, & EventResult creation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstructionBenchmark
+{
+    private final EventFactory<BenchmarkEvents.ArgsEvent> constructorFactory = EventFactory.constructor(BenchmarkEvents.ArgsEvent.class, String.class, int.class);
+    private final EventFactory<BenchmarkEvents.ArgsEvent> typedFactory = EventFactory.of(String.class, Integer.class, BenchmarkEvents.ArgsEvent::new);
+    private final BenchmarkEvents.ArgsEvent event = new BenchmarkEvents.ArgsEvent("benchmark", 1);
+    private Constructor<BenchmarkEvents.ArgsEvent> constructor;
+    // read from a field so the args are not constant folded
+    public String name = "benchmark";
+    public int value = 1;
+
+    @Setup
+    public void setup() throws NoSuchMethodException
+    {
+        constructor = BenchmarkEvents.ArgsEvent.class.getConstructor(String.class, int.class);
+    }
+
+    @Benchmark
+    public BenchmarkEvents.ArgsEvent reflective() throws ReflectiveOperationException
+    {
+        return constructor.newInstance(name, value);
+    }
+
+    @Benchmark
+    public BenchmarkEvents.ArgsEvent newInstance()
+    {
+        return BenchmarkEvents.ArgsEvent.EVENT_TYPE.newInstance(name, value);
+    }
+
+    @Benchmark
+    public BenchmarkEvents.ArgsEvent constructorFactory()
+    {
+        return constructorFactory.create(name, value);
+    }
+
+    @Benchmark
+    public BenchmarkEvents.ArgsEvent typedFactory()
+    {
+        return typedFactory.create(name, value);
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.ArgsEvent> successResult()
+    {
+        return EventResult.success(BenchmarkEvents.ArgsEvent.EVENT_TYPE, event);
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.ArgsEvent> passResult()
+    {
+        return EventResult.pass(BenchmarkEvents.ArgsEvent.EVENT_TYPE);
+    }
+}
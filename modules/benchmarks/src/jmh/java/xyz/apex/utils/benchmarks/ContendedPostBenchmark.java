@@ -0,0 +1,87 @@
+package xyz.apex.utils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import xyz.apex.utils.events.EventResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// multi threaded posting onto a single EventType, with & without concurrent listener registration
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContendedPostBenchmark
+{
+    private static final int LISTENER_COUNT = 10;
+
+    private final int[] sink = new int[1];
+    private final Consumer<BenchmarkEvents.CancelEvent>[] listeners = newListeners();
+    private final Consumer<BenchmarkEvents.CancelEvent> churnListener = BenchmarkEvents.newListener(sink);
+
+    @Setup
+    public void setup()
+    {
+        for(var listener : listeners)
+        {
+            BenchmarkEvents.CancelEvent.EVENT_TYPE.addListener(listener);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        for(var listener : listeners)
+        {
+            BenchmarkEvents.CancelEvent.EVENT_TYPE.removeListener(listener);
+        }
+
+        BenchmarkEvents.CancelEvent.EVENT_TYPE.removeListener(churnListener);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EventResult<BenchmarkEvents.CancelEvent> post()
+    {
+        return BenchmarkEvents.CancelEvent.EVENT_TYPE.post();
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public EventResult<BenchmarkEvents.CancelEvent> postWhileChurning()
+    {
+        return BenchmarkEvents.CancelEvent.EVENT_TYPE.post();
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void churnListeners()
+    {
+        BenchmarkEvents.CancelEvent.EVENT_TYPE.addListener(churnListener);
+        BenchmarkEvents.CancelEvent.EVENT_TYPE.removeListener(churnListener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<BenchmarkEvents.CancelEvent>[] newListeners()
+    {
+        var listeners = new Consumer[LISTENER_COUNT];
+
+        for(var i = 0; i < listeners.length; i++)
+        {
+            listeners[i] = BenchmarkEvents.newListener(sink);
+        }
+
+        return listeners;
+    }
+}
@@ -0,0 +1,81 @@
+package xyz.apex.utils.benchmarks;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventResult;
+import xyz.apex.utils.events.EventType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// single threaded EventType.post, across listener counts for cancellable & none cancellable events
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostBenchmark
+{
+    @Param({ "0", "1", "10", "100" })
+    public int listenerCount;
+
+    private final int[] sink = new int[1];
+    private final List<Consumer<BenchmarkEvents.PlainEvent>> plainListeners = Lists.newArrayList();
+    private final List<Consumer<BenchmarkEvents.CancelEvent>> cancelListeners = Lists.newArrayList();
+    private final List<Consumer<BenchmarkEvents.PooledEvent>> pooledListeners = Lists.newArrayList();
+
+    @Setup
+    public void setup()
+    {
+        for(var i = 0; i < listenerCount; i++)
+        {
+            plainListeners.add(BenchmarkEvents.newListener(sink));
+            cancelListeners.add(BenchmarkEvents.newListener(sink));
+            pooledListeners.add(BenchmarkEvents.newListener(sink));
+        }
+
+        plainListeners.forEach(BenchmarkEvents.PlainEvent.EVENT_TYPE::addListener);
+        cancelListeners.forEach(BenchmarkEvents.CancelEvent.EVENT_TYPE::addListener);
+        pooledListeners.forEach(BenchmarkEvents.PooledEvent.EVENT_TYPE::addListener);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        removeAll(BenchmarkEvents.PlainEvent.EVENT_TYPE, plainListeners);
+        removeAll(BenchmarkEvents.CancelEvent.EVENT_TYPE, cancelListeners);
+        removeAll(BenchmarkEvents.PooledEvent.EVENT_TYPE, pooledListeners);
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.PlainEvent> post()
+    {
+        return BenchmarkEvents.PlainEvent.EVENT_TYPE.post();
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.CancelEvent> postCancellable()
+    {
+        return BenchmarkEvents.CancelEvent.EVENT_TYPE.post();
+    }
+
+    @Benchmark
+    public EventResult<BenchmarkEvents.PooledEvent> postPooled()
+    {
+        return BenchmarkEvents.PooledEvent.EVENT_TYPE.post(1);
+    }
+
+    private static <E extends Event> void removeAll(EventType<E> eventType, List<Consumer<E>> listeners)
+    {
+        listeners.forEach(eventType::removeListener);
+        listeners.clear();
+    }
+}
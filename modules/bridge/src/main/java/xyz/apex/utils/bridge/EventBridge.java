@@ -0,0 +1,89 @@
+package xyz.apex.utils.bridge;
+
+import xyz.apex.utils.core.ApexUtils;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventCodec;
+import xyz.apex.utils.events.EventType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Mirrors Events between processes on the same host, through a ring buffer in a shared memory mapped file.
+ * <p>
+ * Events posted to a mirrored EventType are serialized &#38; written to the ring buffer,
+ * every other process with a bridge open on the same channel then re-posts them to its own listeners.
+ * Once open, neither writing nor reading Events takes locks or performs syscalls.
+ * <p>
+ * Events re-posted by a bridge are never mirrored back, Events are dropped by readers which fall a full buffer behind writers.
+ * Events cancelled by a local listener are not mirrored.
+ * <p>
+ * A process dying part way through writing an Event leaves a record which is never completed,
+ * readers wait up to a second for it before skipping ahead, dropping any Events written in the meantime.
+ */
+public sealed interface EventBridge extends Closeable permits EventBridgeImpl
+{
+    int DEFAULT_CAPACITY = 1 << 20;
+
+    /**
+     * Starts mirroring the given EventType, both writing locally posted Events &#38; re-posting Events written by other processes.
+     * <p>
+     * Every process must mirror the EventType with a compatible codec.
+     *
+     * @param eventType EventType to be mirrored.
+     * @param codec Codec used to serialize Events of the EventType.
+     * @return This bridge.
+     * @param <E> Type of Event to be mirrored.
+     */
+    <E extends Event> EventBridge mirror(EventType<E> eventType, EventCodec<E> codec);
+
+    /**
+     * Re-posts all Events written by other processes since the last poll, on the calling thread.
+     *
+     * @return Number of Events re-posted.
+     */
+    int poll();
+
+    /**
+     * Starts a daemon thread continuously polling for Events, spinning briefly before backing off while idle.
+     *
+     * @return This bridge.
+     */
+    EventBridge start();
+
+    /**
+     * Stops mirroring all EventTypes, stops the polling thread if started &#38; unmaps the ring buffer.
+     *
+     * @throws IOException If an I/O error occurs while closing the ring buffer.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Opens a bridge on the given channel, using a ring buffer of {@link #DEFAULT_CAPACITY} bytes.
+     * <p>
+     * The ring buffer file is stored as {@code bridge/<channel>.ring} under the {@link ApexUtils#rootPath() root path}.
+     *
+     * @param channel Name of the channel, processes only see Events of bridges on the same channel.
+     * @return Newly opened bridge.
+     * @throws IOException If an I/O error occurs while mapping the ring buffer.
+     */
+    static EventBridge open(String channel) throws IOException
+    {
+        return open(ApexUtils.INSTANCE.rootPath().resolve("bridge").resolve(channel + ".ring"), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens a bridge on the given ring buffer file.
+     *
+     * @param file Ring buffer file, created if it does not exist yet.
+     * @param capacity Capacity of the ring buffer in bytes, a power of 2 of at least 1024, ignored if the file already exists.
+     * @return Newly opened bridge.
+     * @throws IOException If an I/O error occurs while mapping the ring buffer.
+     */
+    static EventBridge open(Path file, int capacity) throws IOException
+    {
+        return new EventBridgeImpl(file, capacity);
+    }
+}
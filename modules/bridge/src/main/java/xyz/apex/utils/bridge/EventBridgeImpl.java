@@ -0,0 +1,292 @@
+package xyz.apex.utils.bridge;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventCodec;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+final class EventBridgeImpl implements EventBridge
+{
+    // event currently being re-posted on this thread, by any bridge, so it is not mirrored straight back
+    private static final ThreadLocal<Event> REPOSTING = new ThreadLocal<>();
+    private static final int SPIN_TRIES = 1_000;
+    private static final long IDLE_PARK_NANOS = 50_000L;
+    // a record left uncommitted this long is assumed to belong to a writer which died mid write
+    private static final long STALL_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    private final Path file;
+    private final SharedRingBuffer ring;
+    // identifies records written by this bridge, which it skips while reading
+    private final long source = ThreadLocalRandom.current().nextLong();
+    private final Map<String, Mirrored<?>> mirrored = Maps.newConcurrentMap();
+    private final List<Runnable> unregister = Lists.newCopyOnWriteArrayList();
+    private final ThreadLocal<ByteArrayOutputStream> scratch = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+    private final Object pollLock = new Object();
+    // guarded by pollLock
+    private long position;
+    // guarded by pollLock, when the record at position was first seen claimed but uncommitted, or 0 if it was not
+    private long stalledSince = 0L;
+    // threads currently writing to the ring, which close waits on before unmapping it
+    private final AtomicInteger writers = new AtomicInteger();
+    @Nullable private volatile Thread pollThread = null;
+    private volatile boolean closed = false;
+
+    EventBridgeImpl(Path file, int capacity) throws IOException
+    {
+        this.file = file;
+        ring = new SharedRingBuffer(file, capacity);
+        // only Events written after opening are seen
+        position = ring.tail();
+    }
+
+    @Override
+    public <E extends Event> EventBridge mirror(EventType<E> eventType, EventCodec<E> codec)
+    {
+        var name = eventType.classType().getName();
+        if(mirrored.putIfAbsent(name, new Mirrored<>(eventType, codec)) != null) throw new IllegalStateException("EventType is already mirrored: '%s'".formatted(eventType));
+
+        // lowest priority, so Events are only mirrored once all local listeners had a chance to see them
+        // skipping cancelled, so Events cancelled locally are never re-posted by other processes
+        Consumer<E> listener = event -> write(name, codec, event);
+        eventType.addListener(EventPriority.LOWEST, true, listener);
+        unregister.add(() -> eventType.removeListener(listener));
+        return this;
+    }
+
+    private <E extends Event> void write(String name, EventCodec<E> codec, E event)
+    {
+        if(closed || REPOSTING.get() == event) return;
+
+        var bytes = scratch.get();
+        bytes.reset();
+
+        try
+        {
+            var out = new DataOutputStream(bytes);
+            out.writeUTF(name);
+            codec.write(out, event);
+        }
+        catch(Exception e)
+        {
+            ApexUtils.LOGGER.error("Failed to serialize '{}' for event bridge '{}'", name, file, e);
+            return;
+        }
+
+        if(bytes.size() > ring.maxPayload())
+        {
+            ApexUtils.LOGGER.error("Dropped '{}' for event bridge '{}', serialized to {} bytes exceeding max of {} bytes", name, file, bytes.size(), ring.maxPayload());
+            return;
+        }
+
+        // counted before checking closed again, so close either sees this writer or this writer sees close
+        writers.incrementAndGet();
+
+        try
+        {
+            // toByteArray copies, but the ring buffer needs the backing array which is not exposed
+            if(!closed) ring.write(source, bytes.toByteArray(), bytes.size());
+        }
+        finally
+        {
+            writers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int poll()
+    {
+        synchronized(pollLock)
+        {
+            var polled = new int[1];
+
+            while(!closed)
+            {
+                var next = ring.read(position, (source, payload) -> {
+                    if(source != this.source && repost(payload)) polled[0]++;
+                });
+
+                if(next == position)
+                {
+                    if(stalled()) continue;
+                    break;
+                }
+
+                stalledSince = 0L;
+
+                if(next < 0L)
+                {
+                    var tail = ring.tail();
+                    ApexUtils.LOGGER.warn("Event bridge '{}' fell behind writers, dropped up to {} bytes of Events", file, tail - position);
+                    position = tail;
+                    break;
+                }
+
+                position = next;
+            }
+
+            return polled[0];
+        }
+    }
+
+    // skips to the tail once the record at position stayed claimed but uncommitted past the timeout, returning true if skipped
+    // guarded by pollLock
+    private boolean stalled()
+    {
+        var tail = ring.tail();
+
+        // nothing was claimed past the position, there simply are no new records
+        if(tail == position)
+        {
+            stalledSince = 0L;
+            return false;
+        }
+
+        var now = System.nanoTime();
+
+        if(stalledSince == 0L)
+        {
+            stalledSince = now;
+            return false;
+        }
+
+        if(now - stalledSince < STALL_TIMEOUT_NANOS) return false;
+
+        ApexUtils.LOGGER.warn("Event bridge '{}' skipped a record which was never committed, its writer likely died, dropped up to {} bytes of Events", file, tail - position);
+        position = tail;
+        stalledSince = 0L;
+        return true;
+    }
+
+    private boolean repost(byte[] payload)
+    {
+        String name = null;
+
+        try
+        {
+            var in = new DataInputStream(new ByteArrayInputStream(payload));
+            name = in.readUTF();
+            var mirrored = this.mirrored.get(name);
+            // not mirrored by this process
+            if(mirrored == null) return false;
+            mirrored.repost(in);
+            return true;
+        }
+        catch(IOException e)
+        {
+            ApexUtils.LOGGER.error("Failed to deserialize '{}' from event bridge '{}'", name, file, e);
+            return false;
+        }
+    }
+
+    @Override
+    public EventBridge start()
+    {
+        synchronized(pollLock)
+        {
+            if(closed) throw new IllegalStateException("EventBridge is closed: '%s'".formatted(file));
+            if(pollThread != null) return this;
+
+            var thread = new Thread(this::pollLoop, "EventBridge-" + file.getFileName());
+            thread.setDaemon(true);
+            pollThread = thread;
+            thread.start();
+        }
+
+        return this;
+    }
+
+    private void pollLoop()
+    {
+        var idle = 0;
+
+        while(!closed)
+        {
+            try
+            {
+                if(poll() > 0) idle = 0;
+                else if(idle < SPIN_TRIES)
+                {
+                    idle++;
+                    Thread.onSpinWait();
+                }
+                // only parks while idle, never per Event
+                else LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            catch(Exception e)
+            {
+                ApexUtils.LOGGER.error("Error occurred while polling event bridge '{}'", file, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        closed = true;
+        unregister.forEach(Runnable::run);
+        unregister.clear();
+
+        var thread = pollThread;
+
+        if(thread != null)
+        {
+            LockSupport.unpark(thread);
+
+            try
+            {
+                thread.join();
+            }
+            catch(InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // the ring is unmapped on close, touching it afterwards would crash
+        while(writers.get() != 0)
+        {
+            Thread.onSpinWait();
+        }
+
+        synchronized(pollLock)
+        {
+            ring.close();
+        }
+    }
+
+    private record Mirrored<E extends Event>(EventType<E> eventType, EventCodec<E> codec)
+    {
+        private void repost(DataInputStream in) throws IOException
+        {
+            var event = codec.read(in);
+            REPOSTING.set(event);
+
+            try
+            {
+                eventType.postAllEvents(List.of(event));
+            }
+            finally
+            {
+                REPOSTING.remove();
+            }
+        }
+    }
+}
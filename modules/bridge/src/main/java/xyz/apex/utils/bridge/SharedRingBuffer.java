@@ -0,0 +1,232 @@
+package xyz.apex.utils.bridge;
+
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// broadcast ring buffer in a memory mapped file, shared by any number of writing & reading processes
+// writers claim space by CAS on the shared tail, every reader tracks its own position & sees every record
+// no locks or syscalls once mapped, only the file lock taken while initializing the header
+//
+// file layout:
+// header (64 bytes): int MAGIC, int capacity, long tail
+// records (aligned to 8 bytes): long commit, int length, int payload length (-1 for padding), long source, payload
+// commit is the records position + 1 once fully written, zeroed while being written, so zero filled files hold no records
+//
+// a writer which dies between claiming space & committing its record leaves it uncommitted forever,
+// readers can not find the next record without it, so EventBridgeImpl skips to the tail once a record stays uncommitted for too long
+final class SharedRingBuffer implements AutoCloseable
+{
+    private static final int MAGIC = 0x41425247; // ABRG
+    private static final int HEADER_SIZE = 64;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int TAIL_OFFSET = 8;
+    static final int RECORD_HEADER_SIZE = 24;
+    private static final int PADDING = -1;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    @Nullable private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    SharedRingBuffer(Path file, int capacity) throws IOException
+    {
+        if(capacity < 1024 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Ring buffer capacity must be a power of 2 of at least 1024, but was given %d".formatted(capacity));
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try(var lock = channel.lock())
+        {
+            // another process created the file first, its capacity wins
+            if(channel.size() >= HEADER_SIZE)
+            {
+                var header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HEADER_SIZE).order(ByteOrder.nativeOrder());
+                if(header.getInt(0) != MAGIC) throw new IOException("Not an event bridge ring buffer: '%s'".formatted(file));
+                capacity = header.getInt(CAPACITY_OFFSET);
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_SIZE + (long) capacity);
+            buffer.order(ByteOrder.nativeOrder());
+
+            if(buffer.getInt(0) != MAGIC)
+            {
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.putInt(0, MAGIC);
+            }
+        }
+        catch(IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+
+        this.capacity = capacity;
+        mask = capacity - 1;
+    }
+
+    // largest payload which can be written, records may never span more than half the buffer
+    int maxPayload()
+    {
+        return capacity / 2 - RECORD_HEADER_SIZE;
+    }
+
+    long tail()
+    {
+        return (long) LONGS.getVolatile(buffer, TAIL_OFFSET);
+    }
+
+    void write(long source, byte[] payload, int payloadLength)
+    {
+        if(payloadLength > maxPayload()) throw new IllegalArgumentException("Payload of %d bytes exceeds max of %d bytes".formatted(payloadLength, maxPayload()));
+
+        var length = align(RECORD_HEADER_SIZE + payloadLength);
+
+        for(;;)
+        {
+            var tail = tail();
+            var offset = (int) tail & mask;
+            var remaining = capacity - offset;
+
+            // fits before the end of the buffer
+            if(length <= remaining)
+            {
+                if(!LONGS.compareAndSet(buffer, TAIL_OFFSET, tail, tail + length)) continue;
+                writeRecord(tail, length, source, payload, payloadLength);
+                return;
+            }
+
+            // pad out the rest of this lap & write from the start of the buffer
+            if(!LONGS.compareAndSet(buffer, TAIL_OFFSET, tail, tail + remaining + length)) continue;
+            if(remaining >= RECORD_HEADER_SIZE) writeRecord(tail, remaining, source, null, PADDING);
+            writeRecord(tail + remaining, length, source, payload, payloadLength);
+            return;
+        }
+    }
+
+    private void writeRecord(long position, int length, long source, @Nullable byte[] payload, int payloadLength)
+    {
+        var offset = HEADER_SIZE + ((int) position & mask);
+        // invalidate before overwriting, so readers of the previous lap detect the torn record
+        // the fence keeps the stores below from becoming visible before the zeroed commit
+        LONGS.set(buffer, offset, 0L);
+        VarHandle.storeStoreFence();
+        INTS.set(buffer, offset + 8, length);
+        INTS.set(buffer, offset + 12, payloadLength);
+        LONGS.set(buffer, offset + 16, source);
+        if(payload != null) buffer.put(offset + RECORD_HEADER_SIZE, payload, 0, payloadLength);
+        LONGS.setRelease(buffer, offset, position + 1L);
+    }
+
+    // reads the record at the readers position, returning the position of the next record
+    // or the same position if nothing was written yet, or a negative value if the reader was lapped by writers
+    long read(long position, Reader reader)
+    {
+        var index = (int) position & mask;
+        var remaining = capacity - index;
+        // too small for a record header, writers skip straight to the next lap
+        if(remaining < RECORD_HEADER_SIZE) return position + remaining;
+
+        var offset = HEADER_SIZE + index;
+        var commit = (long) LONGS.getAcquire(buffer, offset);
+        if(commit == 0L || commit < position + 1L) return position;
+        if(commit != position + 1L) return -1L;
+
+        var length = (int) INTS.get(buffer, offset + 8);
+        var payloadLength = (int) INTS.get(buffer, offset + 12);
+        var source = (long) LONGS.get(buffer, offset + 16);
+        // only a writer of the next lap can tear a committed header, checked before it is used to copy the payload
+        if(length < RECORD_HEADER_SIZE || length > remaining || payloadLength > length - RECORD_HEADER_SIZE) return -1L;
+        byte[] payload = null;
+
+        if(payloadLength > 0)
+        {
+            payload = new byte[payloadLength];
+            buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        }
+
+        // record was overwritten while being read
+        // checking its commit alone is not enough, a writer of the next lap may overwrite the payload before the writer whose record covers the commit zeroes it
+        // writers claim space before writing to it, so the record is intact as long as the tail did not move a full lap past it
+        VarHandle.acquireFence();
+        if(lapped(position)) return -1L;
+
+        if(payloadLength != PADDING) reader.accept(source, payload == null ? new byte[0] : payload);
+        return position + length;
+    }
+
+    // whether writers may have started overwriting the record at the given position
+    private boolean lapped(long position)
+    {
+        return tail() - position > capacity;
+    }
+
+    private static int align(int length)
+    {
+        return (length + 7) & ~7;
+    }
+
+    // callers must ensure no thread accesses the buffer anymore, as touching an unmapped buffer crashes the jvm
+    @Override
+    public void close() throws IOException
+    {
+        channel.close();
+        unmap(buffer);
+    }
+
+    // mappings are otherwise only released once the buffer is garbage collected, keeping the file mapped indefinitely
+    private static void unmap(MappedByteBuffer buffer)
+    {
+        if(INVOKE_CLEANER == null) return;
+
+        try
+        {
+            INVOKE_CLEANER.invoke(buffer);
+        }
+        catch(Throwable e)
+        {
+            ApexUtils.LOGGER.warn("Failed to unmap event bridge ring buffer, leaving it to be released once collected", e);
+        }
+    }
+
+    @Nullable
+    private static MethodHandle findInvokeCleaner()
+    {
+        // no supported api unmaps a buffer on java 17, sun.misc is always open for reflection by jdk.unsupported
+        try
+        {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            var invokeCleaner = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class));
+            return invokeCleaner.bindTo(theUnsafe.get(null));
+        }
+        catch(ReflectiveOperationException | RuntimeException e)
+        {
+            ApexUtils.LOGGER.warn("Unable to unmap event bridge ring buffers, they are released once collected", e);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Reader
+    {
+        void accept(long source, byte[] payload);
+    }
+}
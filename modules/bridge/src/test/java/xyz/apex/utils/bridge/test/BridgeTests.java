@@ -0,0 +1,163 @@
+package xyz.apex.utils.bridge.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.bridge.EventBridge;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventCodec;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+public final class BridgeTests
+{
+    @Test
+    void mirrored() throws IOException
+    {
+        var file = Files.createTempFile("apexutils-bridge", ".ring");
+        var received = new StringBuffer();
+        Consumer<TestBridgedEvent> listener = event -> received.append(event.message).append(',');
+
+        // 2 bridges on the same file act as 2 separate processes
+        try(var sender = EventBridge.open(file, 4096); var receiver = EventBridge.open(file, 4096))
+        {
+            sender.mirror(TestBridgedEvent.EVENT_TYPE, TestBridgedEvent.CODEC);
+            receiver.mirror(TestBridgedEvent.EVENT_TYPE, TestBridgedEvent.CODEC);
+            TestBridgedEvent.EVENT_TYPE.addListener(listener);
+
+            // enough to wrap around the ring buffer a few times
+            for(var i = 0; i < 200; i++)
+            {
+                TestBridgedEvent.EVENT_TYPE.post("event-" + i);
+                received.setLength(0);
+
+                Assertions.assertEquals(1, receiver.poll(), "Receiver did not re-post the mirrored event");
+                Assertions.assertEquals("event-%d,".formatted(i), received.toString(), "Mirrored event did not match posted event");
+                Assertions.assertEquals(1, sender.poll(), "Sender did not re-post the event mirrored by the receiver");
+                Assertions.assertEquals(0, receiver.poll(), "Re-posted event was mirrored back");
+            }
+        }
+        finally
+        {
+            TestBridgedEvent.EVENT_TYPE.removeListener(listener);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void cancelledNotMirrored() throws IOException
+    {
+        var file = Files.createTempFile("apexutils-bridge", ".ring");
+        Consumer<TestCancellableBridgedEvent> canceller = event -> {
+            if(event.message.equals("cancel")) event.cancel();
+        };
+
+        try(var sender = EventBridge.open(file, 4096); var receiver = EventBridge.open(file, 4096))
+        {
+            sender.mirror(TestCancellableBridgedEvent.EVENT_TYPE, TestCancellableBridgedEvent.CODEC);
+            receiver.mirror(TestCancellableBridgedEvent.EVENT_TYPE, TestCancellableBridgedEvent.CODEC);
+            TestCancellableBridgedEvent.EVENT_TYPE.addListener(canceller);
+
+            TestCancellableBridgedEvent.EVENT_TYPE.post("cancel");
+            Assertions.assertEquals(0, receiver.poll(), "Cancelled event was mirrored");
+
+            TestCancellableBridgedEvent.EVENT_TYPE.post("keep");
+            Assertions.assertEquals(1, receiver.poll(), "Event was not mirrored");
+        }
+        finally
+        {
+            TestCancellableBridgedEvent.EVENT_TYPE.removeListener(canceller);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void lappedReaderSkipsTornRecords() throws IOException
+    {
+        var file = Files.createTempFile("apexutils-bridge", ".ring");
+        var received = new StringBuffer();
+        Consumer<TestRawBridgedEvent> listener = event -> received.append(event.message).append(',');
+
+        try(var sender = EventBridge.open(file, 4096); var receiver = EventBridge.open(file, 4096); var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            sender.mirror(TestRawBridgedEvent.EVENT_TYPE, TestRawBridgedEvent.CODEC);
+            receiver.mirror(TestRawBridgedEvent.EVENT_TYPE, TestRawBridgedEvent.CODEC);
+
+            // first record of the lap, not yet read by the receiver
+            TestRawBridgedEvent.EVENT_TYPE.post("a".repeat(256));
+
+            // writers of the next lap claim the first 192 bytes, covering that records commit, & die before writing them
+            // the tail lives at offset 8 of the ring buffer header
+            var header = channel.map(FileChannel.MapMode.READ_WRITE, 0L, 64L).order(ByteOrder.nativeOrder());
+            header.putLong(8, 4096L + 192L);
+
+            // so the next writer overwrites the unread payload past its event name, while its commit still matches
+            TestRawBridgedEvent.EVENT_TYPE.post("b");
+
+            TestRawBridgedEvent.EVENT_TYPE.addListener(listener);
+            Assertions.assertEquals(0, receiver.poll(), "Receiver re-posted a record torn by writers of the next lap");
+            Assertions.assertEquals("", received.toString(), "Receiver re-posted a record torn by writers of the next lap");
+        }
+        finally
+        {
+            TestRawBridgedEvent.EVENT_TYPE.removeListener(listener);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    public static final class TestBridgedEvent implements Event
+    {
+        public static final EventType<TestBridgedEvent> EVENT_TYPE = EventType.builder(TestBridgedEvent.class).factory(EventFactory.of(String.class, TestBridgedEvent::new)).register();
+        public static final EventCodec<TestBridgedEvent> CODEC = EventCodec.of((out, event) -> out.writeUTF(event.message), in -> new TestBridgedEvent(in.readUTF()));
+
+        public final String message;
+
+        public TestBridgedEvent(String message)
+        {
+            this.message = message;
+        }
+    }
+
+    public static final class TestCancellableBridgedEvent extends SimpleCancelableEvent
+    {
+        public static final EventType<TestCancellableBridgedEvent> EVENT_TYPE = EventType.builder(TestCancellableBridgedEvent.class).factory(EventFactory.of(String.class, TestCancellableBridgedEvent::new)).register();
+        public static final EventCodec<TestCancellableBridgedEvent> CODEC = EventCodec.of((out, event) -> out.writeUTF(event.message), in -> new TestCancellableBridgedEvent(in.readUTF()));
+
+        public final String message;
+
+        public TestCancellableBridgedEvent(String message)
+        {
+            this.message = message;
+        }
+    }
+
+    public static final class TestRawBridgedEvent implements Event
+    {
+        public static final EventType<TestRawBridgedEvent> EVENT_TYPE = EventType.builder(TestRawBridgedEvent.class).factory(EventFactory.of(String.class, TestRawBridgedEvent::new)).register();
+        // raw bytes, so a torn payload still decodes instead of failing as malformed utf
+        public static final EventCodec<TestRawBridgedEvent> CODEC = EventCodec.of((out, event) -> {
+            var bytes = event.message.getBytes(StandardCharsets.ISO_8859_1);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }, in -> {
+            var bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new TestRawBridgedEvent(new String(bytes, StandardCharsets.ISO_8859_1));
+        });
+
+        public final String message;
+
+        public TestRawBridgedEvent(String message)
+        {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+@ParametersAreNotNullByDefault
+@FieldsAreNotNullByDefault
+@MethodsReturnNotNullByDefault
+package xyz.apex.utils.bridge.test;
+
+import xyz.apex.utils.core.nullness.FieldsAreNotNullByDefault;
+import xyz.apex.utils.core.nullness.MethodsReturnNotNullByDefault;
+import xyz.apex.utils.core.nullness.ParametersAreNotNullByDefault;
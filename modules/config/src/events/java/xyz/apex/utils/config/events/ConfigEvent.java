@@ -6,8 +6,10 @@ import xyz.apex.utils.events.EventType;
 
 public sealed interface ConfigEvent extends Event permits BaseConfigEvent
 {
-    EventType<ConfigLoadEvent> LOAD = EventType.register(ConfigLoadEvent.class, Config.class);
-    EventType<ConfigSaveEvent> SAVE = EventType.register(ConfigSaveEvent.class, Config.class);
+    // keyed by config file path, use addKeyedListener to only listen for a single config
+    // sticky, so listeners registered after a config was loaded still receive its last load
+    EventType<ConfigLoadEvent> LOAD = ConfigLoadEventFactory.builder().keyedBy(event -> event.config().filePath()).sticky(256).register();
+    EventType<ConfigSaveEvent> SAVE = ConfigSaveEventFactory.builder().keyedBy(event -> event.config().filePath()).register();
 
     Config config();
 }
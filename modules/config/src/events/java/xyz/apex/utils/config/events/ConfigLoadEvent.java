@@ -1,9 +1,11 @@
 package xyz.apex.utils.config.events;
 
 import xyz.apex.utils.config.Config;
+import xyz.apex.utils.events.EventConstructor;
 
 public final class ConfigLoadEvent extends BaseConfigEvent
 {
+    @EventConstructor
     public ConfigLoadEvent(Config config)
     {
         super(config);
@@ -1,9 +1,11 @@
 package xyz.apex.utils.config.events;
 
 import xyz.apex.utils.config.Config;
+import xyz.apex.utils.events.EventConstructor;
 
 public final class ConfigSaveEvent extends BaseConfigEvent
 {
+    @EventConstructor
     public ConfigSaveEvent(Config config)
     {
         super(config);
@@ -0,0 +1,29 @@
+package xyz.apex.utils.config.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import xyz.apex.utils.config.ConfigBuilder;
+import xyz.apex.utils.config.events.ConfigEvent;
+import xyz.apex.utils.config.events.ConfigLoadEvent;
+
+import java.util.function.Consumer;
+
+public final class ConfigEventTests
+{
+    @Test
+    void loadSticky()
+    {
+        var config = ConfigBuilder.builder("sticky_test").build();
+        ConfigEvent.LOAD.post(config);
+
+        var loaded = new StringBuffer();
+        Consumer<ConfigLoadEvent> listener = event -> loaded.append(event.config().filePath()).append(',');
+        ConfigEvent.LOAD.addKeyedListener(config.filePath(), listener);
+        Assertions.assertEquals(config.filePath() + ",", loaded.toString(), "Listener registered after load did not receive the last load");
+
+        ConfigEvent.LOAD.post(config);
+        Assertions.assertEquals(config.filePath() + "," + config.filePath() + ",", loaded.toString(), "Listener did not receive a later load exactly once");
+
+        ConfigEvent.LOAD.removeListener(listener);
+    }
+}
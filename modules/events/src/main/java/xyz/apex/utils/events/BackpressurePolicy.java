@@ -0,0 +1,26 @@
+package xyz.apex.utils.events;
+
+/**
+ * Policy used when {@link EventType#enqueue(Object...) enqueuing} an Event while the EventTypes queue is full.
+ *
+ * @see EventTypeBuilder#queue(int, BackpressurePolicy)
+ */
+public enum BackpressurePolicy
+{
+    /**
+     * The Event is dropped &#38; {@link EventType#enqueue(Object...)} returns false.
+     */
+    DROP,
+    /**
+     * The enqueuing thread waits until space is freed by the next {@link EventType#drain()}.
+     * <p>
+     * Gives up &#38; returns false if the waiting thread is interrupted.
+     * Throws an {@link IllegalStateException} rather than waiting when enqueuing from a listener invoked by {@link EventType#drain()},
+     * as that thread would be waiting on itself.
+     */
+    BLOCK,
+    /**
+     * {@link EventType#enqueue(Object...)} throws an {@link IllegalStateException}.
+     */
+    THROW
+}
@@ -0,0 +1,23 @@
+package xyz.apex.utils.events;
+
+/**
+ * Order listeners are invoked in when multiple Events are posted at once.
+ *
+ * @see EventType#postAll(Iterable)
+ */
+public enum BatchOrder
+{
+    /**
+     * Each Event is posted to all listeners before moving onto the next Event.
+     * <p>
+     * Pooled EventTypes reuse their pooled instance for every Event in the batch.
+     */
+    EVENT_MAJOR,
+    /**
+     * Each listener is invoked for all Events before moving onto the next listener,
+     * keeping a single listener hot while it processes the whole batch.
+     * <p>
+     * All Events in the batch must exist at once, so are never pooled.
+     */
+    LISTENER_MAJOR
+}
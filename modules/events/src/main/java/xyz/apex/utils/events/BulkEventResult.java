@@ -0,0 +1,49 @@
+package xyz.apex.utils.events;
+
+import java.util.BitSet;
+
+/**
+ * A BulkEventResult states which Events of a batch were cancelled.
+ * <p>
+ * Events are referenced by their index within the batch they were posted in.
+ *
+ * @param <E> Type of event the result is for.
+ * @see EventType#postAll(Iterable)
+ */
+public sealed interface BulkEventResult<E extends Event> permits BulkEventResultImpl
+{
+    /**
+     * @return The EventType this BulkEventResult is for.
+     */
+    EventType<E> eventType();
+
+    /**
+     * @return Number of Events within the batch.
+     */
+    int size();
+
+    /**
+     * Returns true if the batch was passed while being posted.
+     * <p>
+     * Batches are passed if no listeners are registered onto the EventBus.
+     *
+     * @return True if batch was passed.
+     */
+    boolean wasPassed();
+
+    /**
+     * @param index Index of the Event within the batch.
+     * @return True if a listener cancelled the Event at the given index.
+     */
+    boolean wasCancelled(int index);
+
+    /**
+     * @return Number of cancelled Events within the batch.
+     */
+    int cancelledCount();
+
+    /**
+     * @return Copy of the set of cancelled Event indexes.
+     */
+    BitSet cancelled();
+}
@@ -0,0 +1,56 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+final class BulkEventResultImpl<E extends Event> implements BulkEventResult<E>
+{
+    private final EventType<E> eventType;
+    private final int size;
+    // null when the batch was passed
+    @Nullable private final BitSet cancelled;
+
+    BulkEventResultImpl(EventType<E> eventType, int size, @Nullable BitSet cancelled)
+    {
+        this.eventType = eventType;
+        this.size = size;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public EventType<E> eventType()
+    {
+        return eventType;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean wasPassed()
+    {
+        return cancelled == null;
+    }
+
+    @Override
+    public boolean wasCancelled(int index)
+    {
+        return cancelled != null && cancelled.get(index);
+    }
+
+    @Override
+    public int cancelledCount()
+    {
+        return cancelled == null ? 0 : cancelled.cardinality();
+    }
+
+    @Override
+    public BitSet cancelled()
+    {
+        return cancelled == null ? new BitSet() : (BitSet) cancelled.clone();
+    }
+}
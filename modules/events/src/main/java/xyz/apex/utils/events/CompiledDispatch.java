@@ -0,0 +1,7 @@
+package xyz.apex.utils.events;
+
+// implemented by hidden classes spun by DispatchCompiler, invokes a fixed set of listeners in order
+interface CompiledDispatch<E extends Event>
+{
+    void dispatch(E event);
+}
@@ -0,0 +1,280 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// spins a hidden class per listener set, holding each listener in its own static final field & invoking them from an unrolled method
+// static finals are constants to the JIT, so every listener call site has a constant receiver & small listeners can be inlined
+// the call into the hidden class from EventTypeImpl stays megamorphic, making it a single virtual call per post rather than one per listener
+final class DispatchCompiler
+{
+    // keeps the unrolled method well below the JITs huge method limit
+    static final int MAX_LISTENERS = 512;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final String CLASS_NAME = DispatchCompiler.class.getPackageName().replace('.', '/') + "/CompiledDispatchImpl";
+    private static final String CONSUMER = "java/util/function/Consumer";
+    private static final String CONSUMER_DESC = 'L' + CONSUMER + ';';
+    private static final String CONSUMER_ARRAY = '[' + CONSUMER_DESC;
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP_DESC = "Ljava/lang/invoke/MethodHandles$Lookup;";
+
+    private DispatchCompiler()
+    {
+    }
+
+    static boolean canCompile(int listenerCount)
+    {
+        return listenerCount > 0 && listenerCount <= MAX_LISTENERS;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static <E extends Event> CompiledDispatch<E> compile(Consumer<E>[] listeners)
+    {
+        if(!canCompile(listeners.length)) return null;
+
+        try
+        {
+            // listeners are passed as class data, read once by the static initializer into the static final fields
+            var hiddenClass = LOOKUP.defineHiddenClassWithClassData(generate(listeners.length), listeners.clone(), true).lookupClass();
+            var constructor = LOOKUP.findConstructor(hiddenClass, MethodType.methodType(void.class));
+            return (CompiledDispatch<E>) constructor.invoke();
+        }
+        catch(Throwable e)
+        {
+            ApexUtils.LOGGER.warn("Failed to compile dispatch for {} listeners, falling back to generic dispatch", listeners.length, e);
+            return null;
+        }
+    }
+
+    private static byte[] generate(int listenerCount) throws IOException
+    {
+        var pool = new ConstantPool();
+        var thisClass = pool.classRef(CLASS_NAME);
+        var superClass = pool.classRef("java/lang/Object");
+        var compiledDispatch = pool.classRef(CompiledDispatch.class.getName().replace('.', '/'));
+        var superInit = pool.memberRef(10, "java/lang/Object", "<init>", "()V");
+        var accept = pool.memberRef(11, CONSUMER, "accept", "(Ljava/lang/Object;)V");
+        var lookup = pool.memberRef(10, METHOD_HANDLES, "lookup", "()" + LOOKUP_DESC);
+        var classData = pool.memberRef(10, METHOD_HANDLES, "classData", '(' + LOOKUP_DESC + "Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;");
+        var classDataName = pool.string("_");
+        var consumerArray = pool.classRef(CONSUMER_ARRAY);
+        var code = pool.utf8("Code");
+        var fields = new int[listenerCount];
+        var fieldNames = new int[listenerCount];
+
+        for(var i = 0; i < listenerCount; i++)
+        {
+            fields[i] = pool.memberRef(9, CLASS_NAME, "l" + i, CONSUMER_DESC);
+            fieldNames[i] = pool.utf8("l" + i);
+        }
+
+        var fieldDesc = pool.utf8(CONSUMER_DESC);
+        var clinitName = pool.utf8("<clinit>");
+        var initName = pool.utf8("<init>");
+        var voidDesc = pool.utf8("()V");
+        var dispatchName = pool.utf8("dispatch");
+        // CompiledDispatch.dispatch(E) erased
+        var dispatchDesc = pool.utf8("(Lxyz/apex/utils/events/Event;)V");
+
+        // <clinit>() { var listeners = (Consumer[]) MethodHandles.classData(MethodHandles.lookup(), "_", Consumer[].class); l0 = listeners[0]; ... }
+        var clinit = new ByteArrayOutputStream();
+        var clinitOut = new DataOutputStream(clinit);
+        clinitOut.writeByte(0xB8); // invokestatic
+        clinitOut.writeShort(lookup);
+        clinitOut.writeByte(0x13); // ldc_w
+        clinitOut.writeShort(classDataName);
+        clinitOut.writeByte(0x13); // ldc_w
+        clinitOut.writeShort(consumerArray);
+        clinitOut.writeByte(0xB8); // invokestatic
+        clinitOut.writeShort(classData);
+        clinitOut.writeByte(0xC0); // checkcast
+        clinitOut.writeShort(consumerArray);
+        clinitOut.writeByte(0x4B); // astore_0
+
+        for(var i = 0; i < listenerCount; i++)
+        {
+            clinitOut.writeByte(0x2A); // aload_0
+            pushInt(clinitOut, i);
+            clinitOut.writeByte(0x32); // aaload
+            clinitOut.writeByte(0xB3); // putstatic
+            clinitOut.writeShort(fields[i]);
+        }
+
+        clinitOut.writeByte(0xB1); // return
+
+        // <init>() { super(); }
+        var init = new ByteArrayOutputStream();
+        var initOut = new DataOutputStream(init);
+        initOut.writeByte(0x2A); // aload_0
+        initOut.writeByte(0xB7); // invokespecial
+        initOut.writeShort(superInit);
+        initOut.writeByte(0xB1); // return
+
+        // dispatch(Event event) { l0.accept(event); l1.accept(event); ... }
+        var dispatch = new ByteArrayOutputStream();
+        var dispatchOut = new DataOutputStream(dispatch);
+
+        for(var i = 0; i < listenerCount; i++)
+        {
+            dispatchOut.writeByte(0xB2); // getstatic
+            dispatchOut.writeShort(fields[i]);
+            dispatchOut.writeByte(0x2B); // aload_1
+            dispatchOut.writeByte(0xB9); // invokeinterface
+            dispatchOut.writeShort(accept);
+            dispatchOut.writeByte(2);
+            dispatchOut.writeByte(0);
+        }
+
+        dispatchOut.writeByte(0xB1); // return
+
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(61); // java 17
+        pool.write(out);
+        out.writeShort(0x0010 | 0x0020); // final super
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(compiledDispatch);
+
+        out.writeShort(listenerCount);
+
+        for(var i = 0; i < listenerCount; i++)
+        {
+            out.writeShort(0x0002 | 0x0008 | 0x0010); // private static final
+            out.writeShort(fieldNames[i]);
+            out.writeShort(fieldDesc);
+            out.writeShort(0);
+        }
+
+        out.writeShort(3);
+        writeMethod(out, 0x0008, clinitName, voidDesc, code, 3, clinit.toByteArray());
+        writeMethod(out, 0x0001, initName, voidDesc, code, 1, init.toByteArray());
+        writeMethod(out, 0x0001, dispatchName, dispatchDesc, code, 2, dispatch.toByteArray());
+        out.writeShort(0);
+        return bytes.toByteArray();
+    }
+
+    private static void writeMethod(DataOutputStream out, int access, int name, int desc, int codeAttribute, int maxStack, byte[] code) throws IOException
+    {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(desc);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(2); // this & the single parameter, or the listeners array in <clinit>
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0); // exception table
+        out.writeShort(0); // attributes
+    }
+
+    private static void pushInt(DataOutputStream out, int value) throws IOException
+    {
+        if(value <= 5) out.writeByte(0x03 + value); // iconst_<n>
+        else if(value <= Byte.MAX_VALUE)
+        {
+            out.writeByte(0x10); // bipush
+            out.writeByte(value);
+        }
+        else
+        {
+            out.writeByte(0x11); // sipush
+            out.writeShort(value);
+        }
+    }
+
+    // deduplicating constant pool, entries are written in insertion order starting at index 1
+    private static final class ConstantPool
+    {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        int utf8(String value) throws IOException
+        {
+            var index = indices.get("utf8:" + value);
+            if(index != null) return index;
+            out.writeByte(1);
+            out.writeUTF(value);
+            return add("utf8:" + value);
+        }
+
+        int string(String value) throws IOException
+        {
+            var index = indices.get("string:" + value);
+            if(index != null) return index;
+            var valueIndex = utf8(value);
+            out.writeByte(8);
+            out.writeShort(valueIndex);
+            return add("string:" + value);
+        }
+
+        int classRef(String name) throws IOException
+        {
+            var index = indices.get("class:" + name);
+            if(index != null) return index;
+            var nameIndex = utf8(name);
+            out.writeByte(7);
+            out.writeShort(nameIndex);
+            return add("class:" + name);
+        }
+
+        // tag 9 field, 10 method, 11 interface method
+        int memberRef(int tag, String owner, String name, String desc) throws IOException
+        {
+            var key = "member:" + tag + ':' + owner + '.' + name + desc;
+            var index = indices.get(key);
+            if(index != null) return index;
+
+            var ownerIndex = classRef(owner);
+            var nameAndType = nameAndType(name, desc);
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+            return add(key);
+        }
+
+        private int nameAndType(String name, String desc) throws IOException
+        {
+            var key = "nameAndType:" + name + ':' + desc;
+            var index = indices.get(key);
+            if(index != null) return index;
+
+            var nameIndex = utf8(name);
+            var descIndex = utf8(desc);
+            out.writeByte(12);
+            out.writeShort(nameIndex);
+            out.writeShort(descIndex);
+            return add(key);
+        }
+
+        private int add(String key)
+        {
+            var index = indices.size() + 1;
+            indices.put(key, index);
+            return index;
+        }
+
+        void write(DataOutputStream target) throws IOException
+        {
+            target.writeShort(indices.size() + 1);
+            bytes.writeTo(target);
+        }
+    }
+}
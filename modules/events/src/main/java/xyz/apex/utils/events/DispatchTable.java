@@ -0,0 +1,285 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// immutable, flattened view of all listeners for a EventType, sorted by priority
+// rebuilt on registration changes so that posting never sorts or allocates
+final class DispatchTable<E extends Event>
+{
+    @SuppressWarnings("unchecked")
+    private static final DispatchTable<?> EMPTY = new DispatchTable<>(new Registration[0], new Registration[0], Map.of(), false);
+
+    // own & inherited registrations, including those limited to a key
+    private final Registration<E>[] registrations;
+    // registrations backing the listeners, at the same indices
+    private final Registration<E>[] dispatched;
+    final Consumer<E>[] listeners;
+    // true at index if the listener should not be invoked once the event was cancelled
+    final boolean[] skipCancelled;
+    final boolean anySkipCancelled;
+    // true at index if the listener may be invoked concurrently with others when posted asynchronously
+    final boolean[] concurrent;
+    final boolean anyConcurrent;
+    final ListenerMetricsImpl[] metrics;
+    // compiled lazily on first dispatch, so tables replaced before ever being posted to never spin a class
+    private boolean compile;
+    // unrolled dispatch of all listeners, only present for compiled EventTypes
+    // racy but benign, the hidden class holds no instance state & at worst two threads compile the same table
+    @Nullable private CompiledDispatch<E> compiled = null;
+    // per key tables, holding all unkeyed listeners merged with those for the key
+    private final Map<Object, DispatchTable<E>> keyed;
+
+    @SuppressWarnings("unchecked")
+    private DispatchTable(Registration<E>[] registrations, Registration<E>[] dispatched, Map<Object, DispatchTable<E>> keyed, boolean compile)
+    {
+        this.registrations = registrations;
+        this.dispatched = dispatched;
+        this.keyed = keyed;
+
+        listeners = new Consumer[dispatched.length];
+        skipCancelled = new boolean[dispatched.length];
+        concurrent = new boolean[dispatched.length];
+        metrics = new ListenerMetricsImpl[dispatched.length];
+        var anySkipCancelled = false;
+        var anyConcurrent = false;
+
+        for(var i = 0; i < dispatched.length; i++)
+        {
+            listeners[i] = dispatched[i].listener;
+            skipCancelled[i] = dispatched[i].skipCancelled;
+            concurrent[i] = dispatched[i].concurrent;
+            metrics[i] = dispatched[i].metrics;
+            anySkipCancelled |= skipCancelled[i];
+            anyConcurrent |= concurrent[i];
+        }
+
+        this.anySkipCancelled = anySkipCancelled;
+        this.anyConcurrent = anyConcurrent;
+        this.compile = compile && DispatchCompiler.canCompile(listeners.length);
+    }
+
+    // the table of an EventType, keyed tables untouched since the previous table are reused rather than rebuilt
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> DispatchTable<E> of(Registration<E>[] registrations, @Nullable DispatchTable<E> previous, boolean compile)
+    {
+        // already sorted, so filtering keeps the priority order
+        var unkeyed = Arrays.stream(registrations).filter(registration -> registration.key == null).toArray(Registration[]::new);
+        if(unkeyed.length == registrations.length) return new DispatchTable<>(registrations, registrations, Map.of(), compile);
+        return new DispatchTable<>(registrations, unkeyed, keyed(registrations, previous, compile), compile);
+    }
+
+    private static <E extends Event> Map<Object, DispatchTable<E>> keyed(Registration<E>[] registrations, @Nullable DispatchTable<E> previous, boolean compile)
+    {
+        var touched = previous == null ? null : touchedKeys(previous.registrations, registrations);
+
+        // unkeyed listeners changed, which are part of every keyed table
+        if(touched == null || touched.contains(null))
+        {
+            // grouped in a single pass, in priority order
+            var grouped = Maps.<Object, List<Registration<E>>>newLinkedHashMap();
+
+            for(var registration : registrations)
+            {
+                if(registration.key != null) grouped.computeIfAbsent(registration.key, key -> Lists.newArrayList());
+            }
+
+            for(var registration : registrations)
+            {
+                if(registration.key == null) grouped.values().forEach(dispatched -> dispatched.add(registration));
+                else grouped.get(registration.key).add(registration);
+            }
+
+            var keyed = Maps.<Object, DispatchTable<E>>newHashMapWithExpectedSize(grouped.size());
+            grouped.forEach((key, dispatched) -> keyed.put(key, forKey(dispatched.stream(), compile)));
+            return Map.copyOf(keyed);
+        }
+
+        var keyed = Maps.newHashMap(previous.keyed);
+
+        for(var key : touched)
+        {
+            if(Arrays.stream(registrations).noneMatch(registration -> key.equals(registration.key))) keyed.remove(key);
+            else keyed.put(key, forKey(Arrays.stream(registrations).filter(registration -> registration.key == null || key.equals(registration.key)), compile));
+        }
+
+        return Map.copyOf(keyed);
+    }
+
+    // a table for a single key, dispatching all given registrations
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> DispatchTable<E> forKey(Stream<Registration<E>> dispatched, boolean compile)
+    {
+        var registrations = dispatched.toArray(Registration[]::new);
+        return new DispatchTable<>(registrations, registrations, Map.of(), compile);
+    }
+
+    // keys of all registrations added or removed between both tables, a null key meaning unkeyed listeners changed
+    private static <E extends Event> Set<Object> touchedKeys(Registration<E>[] previous, Registration<E>[] registrations)
+    {
+        var before = Sets.<Registration<E>>newIdentityHashSet();
+        var after = Sets.<Registration<E>>newIdentityHashSet();
+        Collections.addAll(before, previous);
+        Collections.addAll(after, registrations);
+
+        var touched = Sets.<Object>newHashSet();
+        Sets.difference(before, after).forEach(registration -> touched.add(registration.key));
+        Sets.difference(after, before).forEach(registration -> touched.add(registration.key));
+        return touched;
+    }
+
+    boolean isEmpty()
+    {
+        return registrations.length == 0;
+    }
+
+    boolean isKeyed()
+    {
+        return !keyed.isEmpty();
+    }
+
+    // the table to dispatch events with the given key to, a single hash lookup
+    DispatchTable<E> forKey(@Nullable Object key)
+    {
+        if(key == null || keyed.isEmpty()) return this;
+        return keyed.getOrDefault(key, this);
+    }
+
+    @Nullable
+    CompiledDispatch<E> compiled()
+    {
+        if(!compile) return null;
+        var compiled = this.compiled;
+
+        if(compiled == null)
+        {
+            compiled = DispatchCompiler.compile(listeners);
+            // stays on generic dispatch, rather than retrying on every post
+            if(compiled == null) compile = false;
+            else this.compiled = compiled;
+        }
+
+        return compiled;
+    }
+
+    boolean isCompiled()
+    {
+        return compiled != null;
+    }
+
+    Registration<E> registration(int index)
+    {
+        return dispatched[index];
+    }
+
+    // metrics of every listener, including those only dispatched for a key
+    List<ListenerMetricsImpl> allMetrics()
+    {
+        return Arrays.stream(registrations).map(Registration::metrics).toList();
+    }
+
+    // merges own & inherited listeners into a new table, inherited listeners are invoked after own listeners of the same priority
+    // keyed tables of this table are reused where their listeners did not change
+    @SuppressWarnings("unchecked")
+    DispatchTable<E> rebuild(Registration<E>[] own, Registration<E>[] inherited, boolean compile)
+    {
+        var merged = ArrayUtils.addAll(own, inherited);
+        // stable sort, keeps registration order within a priority
+        if(inherited.length > 0) Arrays.sort(merged, Comparator.comparing(Registration::priority));
+        return merged.length == 0 ? empty() : of(merged, this, compile);
+    }
+
+    // inserts after all listeners of the same or higher priority, keeping registration order within a priority
+    static <E extends Event> Registration<E>[] add(Registration<E>[] registrations, Registration<E> registration)
+    {
+        var index = 0;
+        while(index < registrations.length && registrations[index].priority.compareTo(registration.priority) <= 0) index++;
+        return purgeStale(ArrayUtils.insert(index, registrations, registration));
+    }
+
+    static <E extends Event> Registration<E>[] remove(Registration<E>[] registrations, Consumer<E> listener)
+    {
+        for(var i = 0; i < registrations.length; i++)
+        {
+            if(registrations[i].listener.equals(listener)) return purgeStale(ArrayUtils.remove(registrations, i));
+        }
+
+        return registrations;
+    }
+
+    // removes the exact registration, rather than the first one of an equal listener
+    static <E extends Event> Registration<E>[] remove(Registration<E>[] registrations, Registration<E> registration)
+    {
+        for(var i = 0; i < registrations.length; i++)
+        {
+            if(registrations[i] == registration) return purgeStale(ArrayUtils.remove(registrations, i));
+        }
+
+        return registrations;
+    }
+
+    // removes every listener registered through the given group at once
+    @SuppressWarnings("unchecked")
+    static <E extends Event> Registration<E>[] removeOwned(Registration<E>[] registrations, ListenerGroup owner)
+    {
+        var remaining = Arrays.stream(registrations).filter(registration -> registration.owner != owner).toArray(Registration[]::new);
+        return remaining.length == registrations.length ? registrations : purgeStale(remaining);
+    }
+
+    // drops listeners whose weak owner was collected, done on every change as the registrations are copied anyway
+    @SuppressWarnings("unchecked")
+    static <E extends Event> Registration<E>[] purgeStale(Registration<E>[] registrations)
+    {
+        if(Arrays.stream(registrations).noneMatch(Registration::isStale)) return registrations;
+        return Arrays.stream(registrations).filter(registration -> !registration.isStale()).toArray(Registration[]::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Event> Registration<E>[] noRegistrations()
+    {
+        return (Registration<E>[]) EMPTY.registrations;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Event> DispatchTable<E> empty()
+    {
+        return (DispatchTable<E>) EMPTY;
+    }
+
+    // owner is the ListenerGroup this listener was registered through, if any
+    // key is the event key this listener is limited to, or null to be invoked for all events
+    record Registration<E extends Event>(Consumer<E> listener, EventPriority priority, boolean skipCancelled, boolean concurrent, @Nullable ListenerGroup owner, @Nullable Object key, ListenerMetricsImpl metrics)
+    {
+        Registration(Consumer<E> listener, EventPriority priority, boolean skipCancelled, boolean concurrent, @Nullable ListenerGroup owner, @Nullable Object key)
+        {
+            this(listener, priority, skipCancelled, concurrent, owner, key, new ListenerMetricsImpl(listener));
+        }
+
+        Registration(Consumer<E> listener, EventPriority priority, boolean skipCancelled, boolean concurrent, @Nullable ListenerGroup owner)
+        {
+            this(listener, priority, skipCancelled, concurrent, owner, null);
+        }
+
+        Registration(Consumer<E> listener, EventPriority priority, boolean skipCancelled, boolean concurrent)
+        {
+            this(listener, priority, skipCancelled, concurrent, null);
+        }
+
+        private boolean isStale()
+        {
+            return listener instanceof WeakListener<?, ?> weak && weak.isStale();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+// pending events keyed by their coalescing key, in the order each key was first seen
+final class EventCoalescer<E extends Event>
+{
+    private final Function<? super E, ?> keyExtractor;
+    private final BinaryOperator<E> merger;
+    private final Object lock = new Object();
+    // guarded by lock, swapped out on flush so listeners are invoked without holding the lock
+    private Map<Object, E> pending = Maps.newLinkedHashMap();
+
+    EventCoalescer(Function<? super E, ?> keyExtractor, BinaryOperator<E> merger)
+    {
+        this.keyExtractor = keyExtractor;
+        this.merger = merger;
+    }
+
+    boolean add(E event)
+    {
+        var key = keyExtractor.apply(event);
+
+        synchronized(lock)
+        {
+            var existing = pending.get(key);
+
+            if(existing == null) pending.put(key, event);
+            // rejected here, while the pending event is still kept, rather than failing the next flush
+            else pending.put(key, Objects.requireNonNull(merger.apply(existing, event), () -> "Coalescing merger returned null for key: '%s'".formatted(key)));
+
+            return existing != null;
+        }
+    }
+
+    BulkEventResult<E> flush(EventType<E> eventType)
+    {
+        Map<Object, E> flushing;
+
+        synchronized(lock)
+        {
+            flushing = pending;
+            if(!flushing.isEmpty()) pending = Maps.newLinkedHashMap();
+        }
+
+        // events coalesced by listeners are left for the next flush
+        return eventType.postAllEvents(List.copyOf(flushing.values()));
+    }
+
+    int size()
+    {
+        synchronized(lock)
+        {
+            return pending.size();
+        }
+    }
+}
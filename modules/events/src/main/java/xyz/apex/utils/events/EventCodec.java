@@ -0,0 +1,111 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Codec used to write &#38; read a single Event arg to &#38; from an {@link EventRecorder event log}.
+ *
+ * @param <T> Type of arg this codec handles.
+ */
+public interface EventCodec<T>
+{
+    EventCodec<String> STRING = of(DataOutput::writeUTF, DataInput::readUTF);
+    EventCodec<Integer> INTEGER = of(DataOutput::writeInt, DataInput::readInt);
+    EventCodec<Long> LONG = of(DataOutput::writeLong, DataInput::readLong);
+    EventCodec<Float> FLOAT = of(DataOutput::writeFloat, DataInput::readFloat);
+    EventCodec<Double> DOUBLE = of(DataOutput::writeDouble, DataInput::readDouble);
+    EventCodec<Boolean> BOOLEAN = of(DataOutput::writeBoolean, DataInput::readBoolean);
+
+    /**
+     * Writes the given arg.
+     *
+     * @param out Output to write to.
+     * @param value Arg to be written.
+     * @throws IOException If an I/O error occurs.
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads an arg written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in Input to read from.
+     * @return The read arg.
+     * @throws IOException If an I/O error occurs.
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Creates a new codec from the given functions.
+     *
+     * @param writer Function writing an arg.
+     * @param reader Function reading an arg.
+     * @return Newly created codec.
+     * @param <T> Type of arg the codec handles.
+     */
+    static <T> EventCodec<T> of(Writer<T> writer, Reader<T> reader)
+    {
+        return new EventCodec<>()
+        {
+            @Override
+            public void write(DataOutput out, T value) throws IOException
+            {
+                writer.write(out, value);
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException
+            {
+                return reader.read(in);
+            }
+        };
+    }
+
+    /**
+     * Wraps the given codec to also support null args, which are written as a single flag.
+     *
+     * @param codec Codec used for none null args.
+     * @return Null supporting codec.
+     * @param <T> Type of arg the codec handles.
+     */
+    static <T> EventCodec<T> nullable(EventCodec<T> codec)
+    {
+        return new EventCodec<>()
+        {
+            @Override
+            public void write(DataOutput out, @Nullable T value) throws IOException
+            {
+                out.writeBoolean(value != null);
+                if(value != null) codec.write(out, value);
+            }
+
+            @Nullable
+            @Override
+            public T read(DataInput in) throws IOException
+            {
+                return in.readBoolean() ? codec.read(in) : null;
+            }
+        };
+    }
+
+    /**
+     * Function writing an arg.
+     */
+    @FunctionalInterface
+    interface Writer<T>
+    {
+        void write(DataOutput out, T value) throws IOException;
+    }
+
+    /**
+     * Function reading an arg.
+     */
+    @FunctionalInterface
+    interface Reader<T>
+    {
+        T read(DataInput in) throws IOException;
+    }
+}
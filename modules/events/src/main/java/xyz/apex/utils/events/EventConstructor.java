@@ -0,0 +1,22 @@
+package xyz.apex.utils.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor used to construct an Event, generating a typed factory for it at build time.
+ * <p>
+ * For an Event named {@code FooEvent} a class named {@code FooEventFactory} is generated in the same package, exposing
+ * {@code FACTORY}, {@code builder()} &#38; {@code register()}, which register the EventType without any reflective constructor lookup.
+ * <p>
+ * Annotated constructors must not be private &#38; take at most 4 parameters, the Event must be a non abstract, non generic top level or static nested class.
+ *
+ * @see EventFactory#of(Class, java.util.function.Function)
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.CONSTRUCTOR)
+public @interface EventConstructor
+{
+}
@@ -0,0 +1,34 @@
+package xyz.apex.utils.events;
+
+import xyz.apex.utils.core.ApexUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+final class EventExecutors
+{
+    // virtual threads when running on JDK 21+, looked up reflectively as we compile against 17
+    static final Executor DEFAULT = createDefault();
+
+    private EventExecutors()
+    {
+    }
+
+    private static Executor createDefault()
+    {
+        try
+        {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch(NoSuchMethodException e)
+        {
+            return ForkJoinPool.commonPool();
+        }
+        catch(ReflectiveOperationException e)
+        {
+            ApexUtils.LOGGER.warn("Failed to create virtual thread executor for async events, falling back to common pool", e);
+            return ForkJoinPool.commonPool();
+        }
+    }
+}
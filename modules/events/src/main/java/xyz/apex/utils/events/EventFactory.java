@@ -0,0 +1,177 @@
+package xyz.apex.utils.events;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Factory used to construct new Event instances when an EventType is posted.
+ * <p>
+ * Factories are bound once when the EventType is registered,
+ * the typed {@code create} overloads allow Events taking up to 4 args to be constructed without allocating an args array.
+ *
+ * @param <E> Type of Event this factory constructs.
+ */
+public sealed interface EventFactory<E extends Event> permits EventFactoryImpl
+{
+    /**
+     * Constructs a new Event instance from an array of args.
+     *
+     * @param args Args used to construct the new Event instance.
+     * @return Newly constructed Event instance.
+     */
+    E create(Object[] args);
+
+    /**
+     * @return Newly constructed Event instance.
+     */
+    E create();
+
+    /**
+     * @param arg0 First arg used to construct the new Event instance.
+     * @return Newly constructed Event instance.
+     */
+    E create(Object arg0);
+
+    /**
+     * @param arg0 First arg used to construct the new Event instance.
+     * @param arg1 Second arg used to construct the new Event instance.
+     * @return Newly constructed Event instance.
+     */
+    E create(Object arg0, Object arg1);
+
+    /**
+     * @param arg0 First arg used to construct the new Event instance.
+     * @param arg1 Second arg used to construct the new Event instance.
+     * @param arg2 Third arg used to construct the new Event instance.
+     * @return Newly constructed Event instance.
+     */
+    E create(Object arg0, Object arg1, Object arg2);
+
+    /**
+     * @param arg0 First arg used to construct the new Event instance.
+     * @param arg1 Second arg used to construct the new Event instance.
+     * @param arg2 Third arg used to construct the new Event instance.
+     * @param arg3 Fourth arg used to construct the new Event instance.
+     * @return Newly constructed Event instance.
+     */
+    E create(Object arg0, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * @return Number of args this factory expects.
+     */
+    int arity();
+
+    /**
+     * Binds the public constructor matching the given arg types.
+     * <p>
+     * The constructor is looked up once and invoked through a {@link java.lang.invoke.MethodHandle}, rather than reflection.
+     *
+     * @param classType Type of Event to be constructed.
+     * @param argTypes Argument types used to look up a matching constructor.
+     * @return Factory bound to the matching constructor.
+     * @param <E> Type of Event to be constructed.
+     */
+    static <E extends Event> EventFactory<E> constructor(Class<E> classType, Class<?>... argTypes)
+    {
+        return new EventFactoryImpl.ConstructorImpl<>(classType, argTypes);
+    }
+
+    /**
+     * Creates a new factory for Events taking no args.
+     *
+     * @param factory Factory used to construct new Event instances, usually a constructor reference.
+     * @return Newly created EventFactory.
+     * @param <E> Type of Event to be constructed.
+     */
+    static <E extends Event> EventFactory<E> of(Supplier<E> factory)
+    {
+        return new EventFactoryImpl.Arity0<>(factory);
+    }
+
+    /**
+     * Creates a new factory for Events taking 1 arg.
+     *
+     * @param argType Type of the first arg.
+     * @param factory Factory used to construct new Event instances, usually a constructor reference.
+     * @return Newly created EventFactory.
+     * @param <E> Type of Event to be constructed.
+     * @param <A> Type of the first arg.
+     */
+    static <E extends Event, A> EventFactory<E> of(Class<A> argType, Function<A, E> factory)
+    {
+        return new EventFactoryImpl.Arity1<>(argType, factory);
+    }
+
+    /**
+     * Creates a new factory for Events taking 2 args.
+     *
+     * @param argType0 Type of the first arg.
+     * @param argType1 Type of the second arg.
+     * @param factory Factory used to construct new Event instances, usually a constructor reference.
+     * @return Newly created EventFactory.
+     * @param <E> Type of Event to be constructed.
+     * @param <A> Type of the first arg.
+     * @param <B> Type of the second arg.
+     */
+    static <E extends Event, A, B> EventFactory<E> of(Class<A> argType0, Class<B> argType1, BiFunction<A, B, E> factory)
+    {
+        return new EventFactoryImpl.Arity2<>(argType0, argType1, factory);
+    }
+
+    /**
+     * Creates a new factory for Events taking 3 args.
+     *
+     * @param argType0 Type of the first arg.
+     * @param argType1 Type of the second arg.
+     * @param argType2 Type of the third arg.
+     * @param factory Factory used to construct new Event instances, usually a constructor reference.
+     * @return Newly created EventFactory.
+     * @param <E> Type of Event to be constructed.
+     * @param <A> Type of the first arg.
+     * @param <B> Type of the second arg.
+     * @param <C> Type of the third arg.
+     */
+    static <E extends Event, A, B, C> EventFactory<E> of(Class<A> argType0, Class<B> argType1, Class<C> argType2, Function3<A, B, C, E> factory)
+    {
+        return new EventFactoryImpl.Arity3<>(argType0, argType1, argType2, factory);
+    }
+
+    /**
+     * Creates a new factory for Events taking 4 args.
+     *
+     * @param argType0 Type of the first arg.
+     * @param argType1 Type of the second arg.
+     * @param argType2 Type of the third arg.
+     * @param argType3 Type of the fourth arg.
+     * @param factory Factory used to construct new Event instances, usually a constructor reference.
+     * @return Newly created EventFactory.
+     * @param <E> Type of Event to be constructed.
+     * @param <A> Type of the first arg.
+     * @param <B> Type of the second arg.
+     * @param <C> Type of the third arg.
+     * @param <D> Type of the fourth arg.
+     */
+    static <E extends Event, A, B, C, D> EventFactory<E> of(Class<A> argType0, Class<B> argType1, Class<C> argType2, Class<D> argType3, Function4<A, B, C, D, E> factory)
+    {
+        return new EventFactoryImpl.Arity4<>(argType0, argType1, argType2, argType3, factory);
+    }
+
+    /**
+     * Function accepting 3 args.
+     */
+    @FunctionalInterface
+    interface Function3<A, B, C, R>
+    {
+        R apply(A a, B b, C c);
+    }
+
+    /**
+     * Function accepting 4 args.
+     */
+    @FunctionalInterface
+    interface Function4<A, B, C, D, R>
+    {
+        R apply(A a, B b, C c, D d);
+    }
+}
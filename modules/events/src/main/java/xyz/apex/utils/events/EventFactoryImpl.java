@@ -0,0 +1,329 @@
+package xyz.apex.utils.events;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+non-sealed abstract class EventFactoryImpl<E extends Event> implements EventFactory<E>
+{
+    private final int arity;
+
+    EventFactoryImpl(int arity)
+    {
+        this.arity = arity;
+    }
+
+    @Override
+    public E create(Object[] args)
+    {
+        return switch(args.length) {
+            case 0 -> create();
+            case 1 -> create(args[0]);
+            case 2 -> create(args[0], args[1]);
+            case 3 -> create(args[0], args[1], args[2]);
+            case 4 -> create(args[0], args[1], args[2], args[3]);
+            default -> throw arityMismatch(args.length);
+        };
+    }
+
+    @Override
+    public E create()
+    {
+        throw arityMismatch(0);
+    }
+
+    @Override
+    public E create(Object arg0)
+    {
+        throw arityMismatch(1);
+    }
+
+    @Override
+    public E create(Object arg0, Object arg1)
+    {
+        throw arityMismatch(2);
+    }
+
+    @Override
+    public E create(Object arg0, Object arg1, Object arg2)
+    {
+        throw arityMismatch(3);
+    }
+
+    @Override
+    public E create(Object arg0, Object arg1, Object arg2, Object arg3)
+    {
+        throw arityMismatch(4);
+    }
+
+    @Override
+    public final int arity()
+    {
+        return arity;
+    }
+
+    protected final IllegalArgumentException arityMismatch(int argCount)
+    {
+        return new IllegalArgumentException("Event factory expects %d args, but was given %d".formatted(arity, argCount));
+    }
+
+    static final class ConstructorImpl<E extends Event> extends EventFactoryImpl<E>
+    {
+        private final Class<E> classType;
+        // (Object...)Object, invoked exactly so args are never boxed into an array
+        private final MethodHandle constructor;
+        // (Object[])Object, used for events taking more args than the typed overloads support
+        private final MethodHandle spreader;
+
+        ConstructorImpl(Class<E> classType, Class<?>... argTypes)
+        {
+            super(argTypes.length);
+
+            this.classType = classType;
+
+            try
+            {
+                constructor = MethodHandles.publicLookup().findConstructor(classType, MethodType.methodType(void.class, argTypes)).asType(MethodType.genericMethodType(argTypes.length));
+                spreader = constructor.asSpreader(Object[].class, argTypes.length);
+            }
+            catch(NoSuchMethodException | IllegalAccessException e)
+            {
+                throw new RuntimeException("Failed to find matching constructor for event class: '%s' (%s')".formatted(classType.getName(), Arrays.toString(argTypes)), e);
+            }
+        }
+
+        @Override
+        public E create(Object[] args)
+        {
+            if(args.length != arity()) throw arityMismatch(args.length);
+
+            try
+            {
+                return classType.cast(spreader.invokeExact(args));
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        @Override
+        public E create()
+        {
+            if(arity() != 0) throw arityMismatch(0);
+
+            try
+            {
+                return classType.cast(constructor.invokeExact());
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        @Override
+        public E create(Object arg0)
+        {
+            if(arity() != 1) throw arityMismatch(1);
+
+            try
+            {
+                return classType.cast(constructor.invokeExact(arg0));
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1)
+        {
+            if(arity() != 2) throw arityMismatch(2);
+
+            try
+            {
+                return classType.cast(constructor.invokeExact(arg0, arg1));
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1, Object arg2)
+        {
+            if(arity() != 3) throw arityMismatch(3);
+
+            try
+            {
+                return classType.cast(constructor.invokeExact(arg0, arg1, arg2));
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1, Object arg2, Object arg3)
+        {
+            if(arity() != 4) throw arityMismatch(4);
+
+            try
+            {
+                return classType.cast(constructor.invokeExact(arg0, arg1, arg2, arg3));
+            }
+            catch(RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch(Throwable e)
+            {
+                throw constructionFailure(e);
+            }
+        }
+
+        // bad args & unchecked constructor failures are rethrown unchanged, only checked exceptions thrown by the constructor are wrapped
+        private RuntimeException constructionFailure(Throwable e)
+        {
+            return new RuntimeException("Failed to construct new event instance for event type: '%s'".formatted(classType.getName()), e);
+        }
+    }
+
+    static final class Arity0<E extends Event> extends EventFactoryImpl<E>
+    {
+        private final Supplier<E> factory;
+
+        Arity0(Supplier<E> factory)
+        {
+            super(0);
+
+            this.factory = factory;
+        }
+
+        @Override
+        public E create()
+        {
+            return factory.get();
+        }
+    }
+
+    static final class Arity1<E extends Event, A> extends EventFactoryImpl<E>
+    {
+        private final Class<A> argType;
+        private final Function<A, E> factory;
+
+        Arity1(Class<A> argType, Function<A, E> factory)
+        {
+            super(1);
+
+            this.argType = argType;
+            this.factory = factory;
+        }
+
+        @Override
+        public E create(Object arg0)
+        {
+            return factory.apply(argType.cast(arg0));
+        }
+    }
+
+    static final class Arity2<E extends Event, A, B> extends EventFactoryImpl<E>
+    {
+        private final Class<A> argType0;
+        private final Class<B> argType1;
+        private final BiFunction<A, B, E> factory;
+
+        Arity2(Class<A> argType0, Class<B> argType1, BiFunction<A, B, E> factory)
+        {
+            super(2);
+
+            this.argType0 = argType0;
+            this.argType1 = argType1;
+            this.factory = factory;
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1)
+        {
+            return factory.apply(argType0.cast(arg0), argType1.cast(arg1));
+        }
+    }
+
+    static final class Arity3<E extends Event, A, B, C> extends EventFactoryImpl<E>
+    {
+        private final Class<A> argType0;
+        private final Class<B> argType1;
+        private final Class<C> argType2;
+        private final Function3<A, B, C, E> factory;
+
+        Arity3(Class<A> argType0, Class<B> argType1, Class<C> argType2, Function3<A, B, C, E> factory)
+        {
+            super(3);
+
+            this.argType0 = argType0;
+            this.argType1 = argType1;
+            this.argType2 = argType2;
+            this.factory = factory;
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1, Object arg2)
+        {
+            return factory.apply(argType0.cast(arg0), argType1.cast(arg1), argType2.cast(arg2));
+        }
+    }
+
+    static final class Arity4<E extends Event, A, B, C, D> extends EventFactoryImpl<E>
+    {
+        private final Class<A> argType0;
+        private final Class<B> argType1;
+        private final Class<C> argType2;
+        private final Class<D> argType3;
+        private final Function4<A, B, C, D, E> factory;
+
+        Arity4(Class<A> argType0, Class<B> argType1, Class<C> argType2, Class<D> argType3, Function4<A, B, C, D, E> factory)
+        {
+            super(4);
+
+            this.argType0 = argType0;
+            this.argType1 = argType1;
+            this.argType2 = argType2;
+            this.argType3 = argType3;
+            this.factory = factory;
+        }
+
+        @Override
+        public E create(Object arg0, Object arg1, Object arg2, Object arg3)
+        {
+            return factory.apply(argType0.cast(arg0), argType1.cast(arg1), argType2.cast(arg2), argType3.cast(arg3));
+        }
+    }
+}
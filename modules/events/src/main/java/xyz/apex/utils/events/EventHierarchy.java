@@ -0,0 +1,148 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// listeners registered onto Event super types & interfaces
+// resolved into each matching EventTypes dispatch table on registration changes, so posting never walks the type hierarchy
+final class EventHierarchy
+{
+    // guards LISTENERS, always acquired before any EventType lock
+    private static final Object LOCK = new Object();
+    private static final Map<Class<?>, List<DispatchTable.Registration<?>>> LISTENERS = Maps.newLinkedHashMap();
+
+    private EventHierarchy()
+    {
+    }
+
+    static <T extends Event> void addListener(Class<T> superType, DispatchTable.Registration<T> registration)
+    {
+        synchronized(LOCK)
+        {
+            LISTENERS.computeIfAbsent(superType, key -> Lists.newArrayList()).add(registration);
+            invalidate(superType);
+        }
+    }
+
+    // adds every registration, resolving each affected EventType once, used by ListenerGroup batches
+    static void addListeners(Map<Class<?>, List<DispatchTable.Registration<?>>> registrations)
+    {
+        if(registrations.isEmpty()) return;
+
+        synchronized(LOCK)
+        {
+            registrations.forEach((superType, added) -> LISTENERS.computeIfAbsent(superType, key -> Lists.newArrayList()).addAll(added));
+            invalidate(registrations.keySet());
+        }
+    }
+
+    static <T extends Event> void removeListener(Class<T> superType, Consumer<T> listener)
+    {
+        synchronized(LOCK)
+        {
+            var registrations = LISTENERS.get(superType);
+            if(registrations == null) return;
+
+            for(var i = 0; i < registrations.size(); i++)
+            {
+                if(registrations.get(i).listener().equals(listener))
+                {
+                    registrations.remove(i);
+                    if(registrations.isEmpty()) LISTENERS.remove(superType);
+                    invalidate(superType);
+                    return;
+                }
+            }
+        }
+    }
+
+    // removes the exact registration, used to disable a failing listener
+    static void removeRegistration(DispatchTable.Registration<?> registration)
+    {
+        synchronized(LOCK)
+        {
+            for(var entry : LISTENERS.entrySet())
+            {
+                var registrations = entry.getValue();
+
+                for(var i = 0; i < registrations.size(); i++)
+                {
+                    if(registrations.get(i) != registration) continue;
+
+                    var superType = entry.getKey();
+                    registrations.remove(i);
+                    if(registrations.isEmpty()) LISTENERS.remove(superType);
+                    invalidate(superType);
+                    return;
+                }
+            }
+        }
+    }
+
+    // removes every listener registered through the given group, resolving each affected EventType once
+    static void removeOwned(ListenerGroup owner)
+    {
+        synchronized(LOCK)
+        {
+            var affected = Lists.<Class<?>>newArrayList();
+
+            LISTENERS.entrySet().removeIf(entry -> {
+                if(entry.getValue().removeIf(registration -> registration.owner() == owner)) affected.add(entry.getKey());
+                return entry.getValue().isEmpty();
+            });
+
+            invalidate(affected);
+        }
+    }
+
+    // resolves the inherited listeners for a newly registered EventType
+    static <E extends Event> void resolve(EventTypeImpl<E> eventType)
+    {
+        synchronized(LOCK)
+        {
+            eventType.setInherited(collect(eventType.classType()));
+        }
+    }
+
+    private static void invalidate(Class<?> superType)
+    {
+        for(var eventType : EventTypeImpl.EVENT_TYPES.values())
+        {
+            if(superType.isAssignableFrom(eventType.classType())) applyInherited((EventTypeImpl<?>) eventType);
+        }
+    }
+
+    // resolves each EventType extending any of the given super types once
+    private static void invalidate(Collection<Class<?>> superTypes)
+    {
+        if(superTypes.isEmpty()) return;
+
+        for(var eventType : EventTypeImpl.EVENT_TYPES.values())
+        {
+            if(superTypes.stream().anyMatch(superType -> superType.isAssignableFrom(eventType.classType()))) applyInherited((EventTypeImpl<?>) eventType);
+        }
+    }
+
+    private static <E extends Event> void applyInherited(EventTypeImpl<E> eventType)
+    {
+        eventType.setInherited(collect(eventType.classType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> DispatchTable.Registration<E>[] collect(Class<E> classType)
+    {
+        var inherited = Lists.<DispatchTable.Registration<?>>newArrayList();
+
+        LISTENERS.forEach((superType, registrations) -> {
+            if(superType.isAssignableFrom(classType)) inherited.addAll(registrations);
+        });
+
+        // consumers of a super type accept every sub type, so this cast is safe
+        return inherited.toArray(DispatchTable.Registration[]::new);
+    }
+}
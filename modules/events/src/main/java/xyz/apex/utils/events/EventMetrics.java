@@ -0,0 +1,68 @@
+package xyz.apex.utils.events;
+
+import java.util.List;
+
+/**
+ * Dispatch metrics for a single EventType.
+ * <p>
+ * Metrics are disabled by default, while disabled they cost a single branch per post.
+ * Once first enabled the metrics are also exposed over JMX as {@code xyz.apex.utils.events:type=EventType,name=<event class>}.
+ * <p>
+ * Only synchronous &#38; {@link BatchOrder#EVENT_MAJOR event major} batched posts are recorded.
+ *
+ * @see EventType#metrics()
+ */
+public sealed interface EventMetrics permits EventMetricsImpl
+{
+    /**
+     * @return The EventType these metrics are for.
+     */
+    EventType<?> eventType();
+
+    /**
+     * @return True if metrics are currently being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables recording of metrics, recorded values are kept while disabled.
+     *
+     * @param enabled True to start recording metrics.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return Number of Events posted while enabled.
+     */
+    long postCount();
+
+    /**
+     * @return Number of Events passed while enabled.
+     * @see EventResult#wasPassed()
+     */
+    long passCount();
+
+    /**
+     * @return Number of Events posted successfully while enabled.
+     * @see EventResult#wasSuccess()
+     */
+    long successCount();
+
+    /**
+     * @return Number of Events cancelled while enabled.
+     * @see EventResult#wasCancelled()
+     */
+    long cancelledCount();
+
+    /**
+     * @return Metrics for every listener currently registered, in dispatch order.
+     */
+    List<ListenerMetrics> listeners();
+
+    /**
+     * Resets all recorded values, including those of every listener currently registered.
+     * <p>
+     * Listener {@link ListenerMetrics#failures() failures} are kept, as they count towards {@link ExceptionPolicy#DISABLE disabling} the listener.
+     */
+    void reset();
+}
@@ -0,0 +1,153 @@
+package xyz.apex.utils.events;
+
+import xyz.apex.utils.core.ApexUtils;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EventMetricsImpl implements EventMetrics, EventMetricsMXBean
+{
+    private final EventTypeImpl<?> eventType;
+    private final LongAdder passCount = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder cancelledCount = new LongAdder();
+    // the only state read while posting with metrics disabled
+    volatile boolean enabled = false;
+    private boolean registered = false;
+
+    EventMetricsImpl(EventTypeImpl<?> eventType)
+    {
+        this.eventType = eventType;
+    }
+
+    void recordPass()
+    {
+        passCount.increment();
+    }
+
+    void recordPasses(int count)
+    {
+        passCount.add(count);
+    }
+
+    void recordPost(boolean cancelled)
+    {
+        (cancelled ? cancelledCount : successCount).increment();
+    }
+
+    @Override
+    public EventType<?> eventType()
+    {
+        return eventType;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+        if(enabled && !registered) registerMBean();
+    }
+
+    @Override
+    public long postCount()
+    {
+        return passCount() + successCount() + cancelledCount();
+    }
+
+    @Override
+    public long passCount()
+    {
+        return passCount.sum();
+    }
+
+    @Override
+    public long successCount()
+    {
+        return successCount.sum();
+    }
+
+    @Override
+    public long cancelledCount()
+    {
+        return cancelledCount.sum();
+    }
+
+    @Override
+    public List<ListenerMetrics> listeners()
+    {
+        return List.copyOf(eventType.table.allMetrics());
+    }
+
+    @Override
+    public void reset()
+    {
+        passCount.reset();
+        successCount.reset();
+        cancelledCount.reset();
+
+        for(var metrics : eventType.table.allMetrics())
+        {
+            metrics.reset();
+        }
+    }
+
+    @Override
+    public String getEventType()
+    {
+        return eventType.classType().getName();
+    }
+
+    @Override
+    public long getPostCount()
+    {
+        return postCount();
+    }
+
+    @Override
+    public long getPassCount()
+    {
+        return passCount();
+    }
+
+    @Override
+    public long getSuccessCount()
+    {
+        return successCount();
+    }
+
+    @Override
+    public long getCancelledCount()
+    {
+        return cancelledCount();
+    }
+
+    @Override
+    public String[] getListeners()
+    {
+        return listeners().stream().map(Object::toString).toArray(String[]::new);
+    }
+
+    private void registerMBean()
+    {
+        registered = true;
+
+        try
+        {
+            var name = new ObjectName("xyz.apex.utils.events:type=EventType,name=%s".formatted(ObjectName.quote(getEventType())));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        }
+        catch(JMException e)
+        {
+            ApexUtils.LOGGER.warn("Failed to register metrics MBean for '{}'", eventType, e);
+        }
+    }
+}
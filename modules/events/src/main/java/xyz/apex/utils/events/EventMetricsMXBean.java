@@ -0,0 +1,28 @@
+package xyz.apex.utils.events;
+
+/**
+ * JMX view of {@link EventMetrics}.
+ */
+public interface EventMetricsMXBean
+{
+    String getEventType();
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getPostCount();
+
+    long getPassCount();
+
+    long getSuccessCount();
+
+    long getCancelledCount();
+
+    /**
+     * @return Metrics for every listener currently registered, in dispatch order.
+     */
+    String[] getListeners();
+
+    void reset();
+}
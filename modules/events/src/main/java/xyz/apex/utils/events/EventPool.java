@@ -0,0 +1,144 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class EventPool<E extends Event>
+{
+    private final EventType<E> eventType;
+    private final EventFactory<E> factory;
+    private final ThreadLocal<Slot<E>> slots = ThreadLocal.withInitial(Slot::new);
+
+    EventPool(EventType<E> eventType, EventFactory<E> factory)
+    {
+        this.eventType = eventType;
+        this.factory = factory;
+    }
+
+    E acquire(Object[] args)
+    {
+        var slot = slots.get();
+        // reentrant post on this thread, the pooled instance is still being dispatched
+        if(slot.inUse) return factory.create(args);
+        if(slot.event == null) return slot.bind(eventType, factory.create(args));
+        slot.reuse().reset(args);
+        return slot.use();
+    }
+
+    E acquire()
+    {
+        var slot = slots.get();
+        if(slot.inUse) return factory.create();
+        if(slot.event == null) return slot.bind(eventType, factory.create());
+        slot.reuse().reset();
+        return slot.use();
+    }
+
+    E acquire(Object arg0)
+    {
+        var slot = slots.get();
+        if(slot.inUse) return factory.create(arg0);
+        if(slot.event == null) return slot.bind(eventType, factory.create(arg0));
+        slot.reuse().reset(arg0);
+        return slot.use();
+    }
+
+    E acquire(Object arg0, Object arg1)
+    {
+        var slot = slots.get();
+        if(slot.inUse) return factory.create(arg0, arg1);
+        if(slot.event == null) return slot.bind(eventType, factory.create(arg0, arg1));
+        slot.reuse().reset(arg0, arg1);
+        return slot.use();
+    }
+
+    E acquire(Object arg0, Object arg1, Object arg2)
+    {
+        var slot = slots.get();
+        if(slot.inUse) return factory.create(arg0, arg1, arg2);
+        if(slot.event == null) return slot.bind(eventType, factory.create(arg0, arg1, arg2));
+        slot.reuse().reset(arg0, arg1, arg2);
+        return slot.use();
+    }
+
+    E acquire(Object arg0, Object arg1, Object arg2, Object arg3)
+    {
+        var slot = slots.get();
+        if(slot.inUse) return factory.create(arg0, arg1, arg2, arg3);
+        if(slot.event == null) return slot.bind(eventType, factory.create(arg0, arg1, arg2, arg3));
+        slot.reuse().reset(arg0, arg1, arg2, arg3);
+        return slot.use();
+    }
+
+    /**
+     * Releases the event back to the pool and returns the cached successful result,
+     * events constructed for reentrant posts are not pooled and get a new result.
+     */
+    EventResult<E> release(E event)
+    {
+        var slot = slots.get();
+        if(slot.event != event) return EventResult.success(eventType, event);
+        slot.inUse = false;
+        return slot.success;
+    }
+
+    /**
+     * Releases the event back to the pool and returns the cached cancelled result for the given listener index.
+     */
+    EventResult<E> releaseCancelled(E event, int cancelledBy)
+    {
+        var slot = slots.get();
+        if(slot.event != event) return EventResult.cancelled(eventType, event, cancelledBy);
+        slot.inUse = false;
+        if(cancelledBy == EventResult.UNKNOWN_LISTENER) return slot.cancelled;
+
+        // results for each cancelling listener index are built lazily, then reused
+        if(cancelledBy >= slot.cancelledBy.length) slot.cancelledBy = Arrays.copyOf(slot.cancelledBy, cancelledBy + 1);
+        var result = slot.cancelledBy[cancelledBy];
+        if(result == null) result = slot.cancelledBy[cancelledBy] = EventResult.cancelled(eventType, event, cancelledBy);
+        return result;
+    }
+
+    /**
+     * Releases the event back to the pool without building a result, used when a listener throws.
+     */
+    void discard(E event)
+    {
+        var slot = slots.get();
+        if(slot.event == event) slot.inUse = false;
+    }
+
+    private static final class Slot<E extends Event>
+    {
+        @Nullable private E event;
+        private boolean inUse = false;
+        @Nullable private EventResult<E> success;
+        @Nullable private EventResult<E> cancelled;
+        @SuppressWarnings("unchecked")
+        private EventResult<E>[] cancelledBy = new EventResult[0];
+
+        private E bind(EventType<E> eventType, E event)
+        {
+            this.event = event;
+            inUse = true;
+            success = EventResult.success(eventType, event);
+            cancelled = EventResult.cancelled(eventType, event);
+            return event;
+        }
+
+        // only marks the slot as in use once reset succeeded, a throwing reset must not leave the slot claimed forever
+        private ReusableEvent reuse()
+        {
+            if(event instanceof SimpleCancelableEvent cancellable) cancellable.resetCancelled();
+            return (ReusableEvent) event;
+        }
+
+        private E use()
+        {
+            inUse = true;
+            return Objects.requireNonNull(event);
+        }
+    }
+}
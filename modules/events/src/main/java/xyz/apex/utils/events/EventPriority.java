@@ -0,0 +1,25 @@
+package xyz.apex.utils.events;
+
+/**
+ * Priority of Event listeners.
+ * <p>
+ * Listeners with a higher priority are invoked before those with a lower priority,
+ * listeners of the same priority are invoked in the order they were registered.
+ */
+public enum EventPriority
+{
+    /**
+     * Invoked first, should be used for cheap filtering listeners which may cancel the Event early.
+     */
+    HIGHEST,
+    HIGH,
+    /**
+     * Default priority for all listeners.
+     */
+    NORMAL,
+    LOW,
+    /**
+     * Invoked last, should be used for listeners which want to see the final state of the Event.
+     */
+    LOWEST
+}
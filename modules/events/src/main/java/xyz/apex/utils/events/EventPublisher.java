@@ -0,0 +1,252 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+// each subscriber registers its own listener, buffering posted events until requested
+// events are delivered on the EventTypes executor, so posting only ever enqueues
+final class EventPublisher<E extends Event> implements Flow.Publisher<E>
+{
+    private final EventType<E> eventType;
+    private final Executor executor;
+    private final int bufferSize;
+    private final OverflowPolicy overflow;
+
+    EventPublisher(EventType<E> eventType, Executor executor, int bufferSize, OverflowPolicy overflow)
+    {
+        if(bufferSize < 1) throw new IllegalArgumentException("Buffer size must be at least 1, but was given %d".formatted(bufferSize));
+
+        this.eventType = eventType;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.overflow = overflow;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber)
+    {
+        var subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        // subscriber may have cancelled from within onSubscribe
+        if(!subscription.cancelled) eventType.addListener(EventPriority.LOWEST, true, subscription);
+    }
+
+    private final class Subscription implements Flow.Subscription, Consumer<E>
+    {
+        private final Flow.Subscriber<? super E> subscriber;
+        // guarded by this
+        private final ArrayDeque<E> buffer = new ArrayDeque<>();
+        private long requested = 0L;
+        private boolean draining = false;
+        // error waiting to be signalled by drain, so it is never signalled concurrently with onNext
+        @Nullable private Throwable error = null;
+        private volatile boolean cancelled = false;
+
+        private Subscription(Flow.Subscriber<? super E> subscriber)
+        {
+            this.subscriber = subscriber;
+        }
+
+        // invoked on the posting thread
+        @Override
+        public void accept(E event)
+        {
+            synchronized(this)
+            {
+                if(cancelled) return;
+
+                if(buffer.size() >= bufferSize)
+                {
+                    switch(overflow)
+                    {
+                        case DROP_OLDEST -> buffer.pollFirst();
+                        case DROP_NEWEST -> {
+                            return;
+                        }
+                        case BLOCK -> {
+                            while(buffer.size() >= bufferSize && !cancelled)
+                            {
+                                try
+                                {
+                                    wait();
+                                }
+                                catch(InterruptedException e)
+                                {
+                                    Thread.currentThread().interrupt();
+                                    return;
+                                }
+                            }
+
+                            if(cancelled) return;
+                        }
+                    }
+                }
+
+                buffer.addLast(event);
+                if(!scheduleDrain()) return;
+            }
+
+            submitDrain();
+        }
+
+        @Override
+        public void request(long n)
+        {
+            if(n <= 0L)
+            {
+                boolean schedule;
+
+                synchronized(this)
+                {
+                    if(!terminate()) return;
+                    error = new IllegalArgumentException("Subscription request must be positive, but was given %d".formatted(n));
+                    schedule = scheduleDrain();
+                }
+
+                eventType.removeListener(this);
+                if(schedule) submitDrain();
+                return;
+            }
+
+            synchronized(this)
+            {
+                if(cancelled) return;
+                // saturates, Long.MAX_VALUE means unbounded
+                requested = requested + n < 0L ? Long.MAX_VALUE : requested + n;
+                if(!scheduleDrain()) return;
+            }
+
+            submitDrain();
+        }
+
+        @Override
+        public void cancel()
+        {
+            synchronized(this)
+            {
+                if(!terminate()) return;
+            }
+
+            eventType.removeListener(this);
+        }
+
+        // guarded by this, returns false if already terminated, callers remove the listener once outside of the lock
+        private boolean terminate()
+        {
+            if(cancelled) return false;
+            cancelled = true;
+            buffer.clear();
+            // wake posting threads blocked on a full buffer
+            notifyAll();
+            return true;
+        }
+
+        // guarded by this, returns true if a new drain should be submitted
+        private boolean scheduleDrain()
+        {
+            if(draining) return false;
+            if(error == null && (buffer.isEmpty() || requested == 0L)) return false;
+            draining = true;
+            return true;
+        }
+
+        // only invoked by the thread which scheduled the drain
+        private void submitDrain()
+        {
+            try
+            {
+                executor.execute(this::drain);
+            }
+            catch(RejectedExecutionException e)
+            {
+                ApexUtils.LOGGER.error("Executor of '{}' rejected delivering to a subscriber, cancelling its subscription", eventType, e);
+                Throwable failure;
+                boolean terminated;
+
+                synchronized(this)
+                {
+                    terminated = terminate();
+                    // a subscription which was already cancelled is only signalled the error it was terminated with
+                    failure = error != null ? error : terminated ? e : null;
+                    error = null;
+                }
+
+                if(terminated) eventType.removeListener(this);
+
+                // still holding the drain, so this can not be signalled concurrently with onNext
+                if(failure != null) signalError(failure);
+
+                synchronized(this)
+                {
+                    draining = false;
+                }
+            }
+        }
+
+        private void signalError(Throwable failure)
+        {
+            try
+            {
+                subscriber.onError(failure);
+            }
+            catch(Throwable e)
+            {
+                ApexUtils.LOGGER.error("Subscriber of '{}' failed while receiving an error", eventType, e);
+            }
+        }
+
+        // only ever running once at a time per subscription, delivering events in order
+        private void drain()
+        {
+            for(;;)
+            {
+                E event;
+                Throwable failure;
+
+                synchronized(this)
+                {
+                    failure = error;
+                    error = null;
+
+                    if(failure != null || cancelled || buffer.isEmpty() || requested == 0L)
+                    {
+                        draining = false;
+                        event = null;
+                    }
+                    else
+                    {
+                        event = buffer.pollFirst();
+                        if(requested != Long.MAX_VALUE) requested--;
+                        notifyAll();
+                    }
+                }
+
+                // terminated along with setting the error, so nothing else can be signalled once the drain is released
+                if(failure != null)
+                {
+                    signalError(failure);
+                    return;
+                }
+
+                if(event == null) return;
+
+                try
+                {
+                    subscriber.onNext(event);
+                }
+                catch(Throwable e)
+                {
+                    ApexUtils.LOGGER.error("Subscriber of '{}' failed, cancelling its subscription", eventType, e);
+                    cancel();
+                    return;
+                }
+            }
+        }
+    }
+}
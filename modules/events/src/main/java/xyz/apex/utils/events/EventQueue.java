@@ -0,0 +1,143 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// bounded multi-producer single-consumer ring buffer of event args
+// each slot carries a sequence number, producers claim slots by CAS on tail & publish by bumping the slot sequence,
+// so neither side ever locks & the consumer never contends with producers
+final class EventQueue
+{
+    private static final long BLOCK_PARK_NANOS = 10_000L;
+
+    private final Object[][] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final BackpressurePolicy backpressure;
+    private final AtomicLong tail = new AtomicLong();
+    // thread currently draining, if any
+    private final AtomicReference<Thread> drainer = new AtomicReference<>();
+    // only accessed by the draining thread
+    private long head = 0L;
+
+    EventQueue(int capacity, BackpressurePolicy backpressure)
+    {
+        if(capacity < 1) throw new IllegalArgumentException("Queue capacity must be at least 1, but was given %d".formatted(capacity));
+
+        // round up to a power of 2 so slots can be found by masking
+        // at least 2, with a single slot a published sequence equals that of a free slot on the next lap
+        var size = Math.max(2, Integer.highestOneBit(capacity));
+        if(size < capacity) size <<= 1;
+
+        buffer = new Object[size][];
+        sequences = new AtomicLongArray(size);
+        mask = size - 1;
+        this.backpressure = backpressure;
+
+        for(var i = 0; i < size; i++)
+        {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(EventType<?> eventType, Object[] args)
+    {
+        if(tryOffer(args)) return true;
+
+        return switch(backpressure) {
+            case DROP -> false;
+            case THROW -> throw new IllegalStateException("Event queue is full: '%s'".formatted(eventType));
+            case BLOCK -> {
+                // only the draining thread frees slots, it would wait on itself forever
+                if(drainer.get() == Thread.currentThread()) throw new IllegalStateException("Event queue is full & can not block the thread draining it: '%s'".formatted(eventType));
+
+                while(!tryOffer(args))
+                {
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+
+                    if(Thread.currentThread().isInterrupted()) yield false;
+                }
+
+                yield true;
+            }
+        };
+    }
+
+    private boolean tryOffer(Object[] args)
+    {
+        var pos = tail.get();
+
+        for(;;)
+        {
+            var index = (int) pos & mask;
+            var diff = sequences.get(index) - pos;
+
+            if(diff == 0L)
+            {
+                if(tail.compareAndSet(pos, pos + 1L))
+                {
+                    buffer[index] = args;
+                    // publishes the args to the consumer
+                    sequences.set(index, pos + 1L);
+                    return true;
+                }
+
+                pos = tail.get();
+            }
+            // slot not yet consumed from the previous lap, queue is full
+            else if(diff < 0L) return false;
+            // another producer claimed this slot, retry from the new tail
+            else pos = tail.get();
+        }
+    }
+
+    @Nullable
+    private Object[] poll()
+    {
+        var index = (int) head & mask;
+        // slot claimed but not yet published by its producer
+        if(sequences.get(index) != head + 1L) return null;
+
+        var args = buffer[index];
+        buffer[index] = null;
+        // frees the slot for producers on the next lap
+        sequences.set(index, head + buffer.length);
+        head++;
+        return args;
+    }
+
+    <E extends Event> int drain(EventType<E> eventType)
+    {
+        if(!drainer.compareAndSet(null, Thread.currentThread())) throw new IllegalStateException("Event queue is already being drained: '%s'".formatted(eventType));
+
+        try
+        {
+            // only drain events enqueued before this call, events enqueued by listeners are left for the next drain
+            var end = tail.get();
+            var drained = 0;
+
+            while(head < end)
+            {
+                var args = poll();
+                if(args == null) break;
+                drained++;
+                eventType.post(args);
+            }
+
+            return drained;
+        }
+        finally
+        {
+            drainer.set(null);
+        }
+    }
+
+    int size()
+    {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+}
@@ -0,0 +1,51 @@
+package xyz.apex.utils.events;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Captures Events posted to EventTypes into a compact binary log, to be replayed later by an {@link EventReplayer}.
+ * <p>
+ * Each post is logged as the EventType, nanoseconds since recording started &#38; the args passed to {@link EventType#post(Object...)},
+ * written using the codecs given for that EventType. Events posted as already constructed instances are never recorded.
+ */
+public sealed interface EventRecorder extends Closeable permits EventRecorderImpl
+{
+    /**
+     * Starts recording posts of the given EventType.
+     * <p>
+     * An EventType may only be recorded by a single recorder at once.
+     *
+     * @param eventType EventType to be recorded.
+     * @param argCodecs Codecs used to write each arg, in the order they are passed to {@link EventType#post(Object...)}.
+     * @return This recorder.
+     * @param <E> Type of Event to be recorded.
+     */
+    <E extends Event> EventRecorder record(EventType<E> eventType, EventCodec<?>... argCodecs);
+
+    /**
+     * @return Number of posts recorded so far.
+     */
+    long recordedCount();
+
+    /**
+     * Stops recording all EventTypes &#38; flushes the log, without closing the underlying stream.
+     *
+     * @throws IOException If an I/O error occurs while flushing.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Creates a new recorder, immediately writing the log header.
+     *
+     * @param out Stream the log is written to, buffered internally.
+     * @return Newly created recorder.
+     * @throws IOException If an I/O error occurs while writing the header.
+     */
+    static EventRecorder create(OutputStream out) throws IOException
+    {
+        return new EventRecorderImpl(out);
+    }
+}
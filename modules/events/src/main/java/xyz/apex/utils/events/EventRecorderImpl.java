@@ -0,0 +1,171 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import xyz.apex.utils.core.ApexUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+// log layout, all big endian:
+// header: int MAGIC, short VERSION
+// define: byte DEFINE, short id, utf class name, byte arg count, written once per EventType before any of its posts
+// post: byte POST, short id, long nanos since recording started, args written by each codec in order
+final class EventRecorderImpl implements EventRecorder
+{
+    static final int MAGIC = 0x41455654; // AEVT
+    static final int VERSION = 1;
+    static final int DEFINE = 0;
+    static final int POST = 1;
+    private static final int MAX_EVENT_TYPES = 0xFFFF;
+
+    private final DataOutputStream out;
+    private final long start = System.nanoTime();
+    private final Object lock = new Object();
+    // guarded by lock
+    private final List<Binding> bindings = Lists.newArrayList();
+    // args are encoded here first, so a failing codec never leaves a partial record in the log, guarded by lock
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+    private long recordedCount = 0L;
+    private boolean closed = false;
+
+    EventRecorderImpl(OutputStream out) throws IOException
+    {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC);
+        this.out.writeShort(VERSION);
+    }
+
+    @Override
+    public <E extends Event> EventRecorder record(EventType<E> eventType, EventCodec<?>... argCodecs)
+    {
+        synchronized(lock)
+        {
+            if(closed) throw new IllegalStateException("EventRecorder is closed");
+            if(bindings.size() >= MAX_EVENT_TYPES) throw new IllegalStateException("EventRecorder can not record more than %d EventTypes".formatted(MAX_EVENT_TYPES));
+
+            var binding = new Binding(this, bindings.size(), (EventTypeImpl<?>) eventType, argCodecs.clone());
+            // started first, as it throws if the EventType is already being recorded, no post is written before its define as we hold the lock
+            binding.eventType.startRecording(binding);
+
+            try
+            {
+                out.writeByte(DEFINE);
+                out.writeShort(binding.id);
+                out.writeUTF(eventType.classType().getName());
+                out.writeByte(argCodecs.length);
+            }
+            catch(IOException e)
+            {
+                // the log may hold a partial define now, so nothing more can be recorded into it
+                binding.eventType.stopRecording(binding);
+                stop();
+                throw new IllegalStateException("Failed to record '%s'".formatted(eventType), e);
+            }
+
+            bindings.add(binding);
+        }
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Binding binding, Object[] args)
+    {
+        synchronized(lock)
+        {
+            if(closed) return;
+            // taken under the lock, so timestamps never go backwards in the log
+            var timestamp = System.nanoTime() - start;
+
+            if(args.length != binding.codecs.length)
+            {
+                ApexUtils.LOGGER.warn("Skipped recording post of '{}', expected {} args but was given {}", binding.eventType, binding.codecs.length, args.length);
+                return;
+            }
+
+            try
+            {
+                scratch.reset();
+
+                for(var i = 0; i < args.length; i++)
+                {
+                    ((EventCodec<Object>) binding.codecs[i]).write(scratchOut, args[i]);
+                }
+            }
+            catch(Exception e)
+            {
+                ApexUtils.LOGGER.warn("Skipped recording post of '{}', failed to encode args", binding.eventType, e);
+                return;
+            }
+
+            try
+            {
+                out.writeByte(POST);
+                out.writeShort(binding.id);
+                out.writeLong(timestamp);
+                scratch.writeTo(out);
+                recordedCount++;
+            }
+            catch(IOException e)
+            {
+                ApexUtils.LOGGER.error("Failed to write event log, stopping recording", e);
+                stop();
+            }
+        }
+    }
+
+    @Override
+    public long recordedCount()
+    {
+        synchronized(lock)
+        {
+            return recordedCount;
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        synchronized(lock)
+        {
+            if(closed) return;
+            stop();
+            out.flush();
+        }
+    }
+
+    // guarded by lock
+    private void stop()
+    {
+        closed = true;
+        bindings.forEach(binding -> binding.eventType.stopRecording(binding));
+        bindings.clear();
+    }
+
+    // attached to a single EventType while it is being recorded
+    static final class Binding
+    {
+        private final EventRecorderImpl recorder;
+        private final int id;
+        private final EventTypeImpl<?> eventType;
+        private final EventCodec<?>[] codecs;
+
+        private Binding(EventRecorderImpl recorder, int id, EventTypeImpl<?> eventType, EventCodec<?>[] codecs)
+        {
+            this.recorder = recorder;
+            this.id = id;
+            this.eventType = eventType;
+            this.codecs = codecs;
+        }
+
+        void record(Object... args)
+        {
+            recorder.write(this, args);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package xyz.apex.utils.events;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Re-posts Events captured by an {@link EventRecorder}.
+ * <p>
+ * Every recorded EventType must be registered with the same codecs it was recorded with.
+ */
+public sealed interface EventReplayer permits EventReplayerImpl
+{
+    /**
+     * Registers the codecs used to read args of the given EventType.
+     *
+     * @param eventType EventType to be replayed.
+     * @param argCodecs Codecs used to read each arg, must match those used while recording.
+     * @return This replayer.
+     * @param <E> Type of Event to be replayed.
+     */
+    <E extends Event> EventReplayer register(EventType<E> eventType, EventCodec<?>... argCodecs);
+
+    /**
+     * Replays all Events in the given log on the calling thread, using {@link EventType#post(Object...)}.
+     *
+     * @param in Stream the log is read from, buffered internally.
+     * @param speed Speed the log is replayed at.
+     * @return Number of Events replayed.
+     * @throws IOException If an I/O error occurs, the log is malformed or contains an unregistered EventType.
+     * @throws InterruptedException If interrupted while waiting to replay an Event at its original time.
+     */
+    long replay(InputStream in, ReplaySpeed speed) throws IOException, InterruptedException;
+
+    /**
+     * @return Newly created replayer.
+     */
+    static EventReplayer create()
+    {
+        return new EventReplayerImpl();
+    }
+}
@@ -0,0 +1,85 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+final class EventReplayerImpl implements EventReplayer
+{
+    // keyed by class name, as written to the log
+    private final Map<String, Replayed> eventTypes = Maps.newConcurrentMap();
+
+    @Override
+    public <E extends Event> EventReplayer register(EventType<E> eventType, EventCodec<?>... argCodecs)
+    {
+        eventTypes.put(eventType.classType().getName(), new Replayed(eventType, argCodecs.clone()));
+        return this;
+    }
+
+    @Override
+    public long replay(InputStream in, ReplaySpeed speed) throws IOException, InterruptedException
+    {
+        var data = new DataInputStream(new BufferedInputStream(in));
+        if(data.readInt() != EventRecorderImpl.MAGIC) throw new IOException("Not an event log");
+        var version = data.readUnsignedShort();
+        if(version != EventRecorderImpl.VERSION) throw new IOException("Unsupported event log version: %d".formatted(version));
+
+        var defined = Lists.<Replayed>newArrayList();
+        var start = System.nanoTime();
+        var replayed = 0L;
+
+        for(var tag = data.read(); tag != -1; tag = data.read())
+        {
+            switch(tag)
+            {
+                case EventRecorderImpl.DEFINE -> {
+                    var id = data.readUnsignedShort();
+                    var className = data.readUTF();
+                    var argCount = data.readUnsignedByte();
+                    var eventType = eventTypes.get(className);
+
+                    if(id != defined.size()) throw new IOException("Malformed event log, expected EventType id %d but found %d".formatted(defined.size(), id));
+                    if(eventType == null) throw new IOException("No codecs registered for recorded EventType: '%s'".formatted(className));
+                    if(eventType.codecs.length != argCount) throw new IOException("Recorded EventType '%s' has %d args, but %d codecs were registered".formatted(className, argCount, eventType.codecs.length));
+
+                    defined.add(eventType);
+                }
+                case EventRecorderImpl.POST -> {
+                    var id = data.readUnsignedShort();
+                    var timestamp = data.readLong();
+                    if(id >= defined.size()) throw new IOException("Malformed event log, post of undefined EventType id %d".formatted(id));
+
+                    var eventType = defined.get(id);
+                    var args = new Object[eventType.codecs.length];
+
+                    for(var i = 0; i < args.length; i++)
+                    {
+                        args[i] = eventType.codecs[i].read(data);
+                    }
+
+                    if(speed == ReplaySpeed.ORIGINAL)
+                    {
+                        var wait = timestamp - (System.nanoTime() - start);
+                        if(wait > 0L) TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+
+                    eventType.eventType.post(args);
+                    replayed++;
+                }
+                default -> throw new IOException("Malformed event log, unknown record tag: %d".formatted(tag));
+            }
+        }
+
+        return replayed;
+    }
+
+    private record Replayed(EventType<?> eventType, EventCodec<?>[] codecs)
+    {
+    }
+}
@@ -25,6 +25,11 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     int PASS = 2;
 
+    /**
+     * Marker for cancelled EventResults where the cancelling listener is not known.
+     */
+    int UNKNOWN_LISTENER = -1;
+
     /**
      * @return The EventType this EventResult is for.
      */
@@ -78,6 +83,16 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     boolean wasPassed();
 
+    /**
+     * Returns the index of the listener, in dispatch order, which cancelled the Event.
+     * <p>
+     * Only tracked for {@link EventTypeBuilder#shortCircuit() short circuiting} EventTypes,
+     * {@link #UNKNOWN_LISTENER} is returned for all other EventTypes or if the Event was not cancelled.
+     *
+     * @return Index of the listener which cancelled the Event.
+     */
+    int cancelledBy();
+
     /**
      * Creates a new successful EventResult for the given Event.
      *
@@ -88,7 +103,7 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     static <E extends Event> EventResult<E> success(EventType<E> eventType, E event)
     {
-        return new EventResultImpl<>(eventType, event, SUCCESS);
+        return new EventResultImpl<>(eventType, event, SUCCESS, UNKNOWN_LISTENER);
     }
 
     /**
@@ -101,7 +116,21 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     static <E extends Event> EventResult<E> cancelled(EventType<E> eventType, E event)
     {
-        return new EventResultImpl<>(eventType, event, CANCELLED);
+        return cancelled(eventType, event, UNKNOWN_LISTENER);
+    }
+
+    /**
+     * Creates a new cancelled EventResult for the given Event.
+     *
+     * @param eventType EventType to create this EventResult for.
+     * @param event Event to create this EventResult for.
+     * @param cancelledBy Index of the listener which cancelled the Event.
+     * @return The newly constructed EventResult.
+     * @param <E> Type of Event to create this EventResult for.
+     */
+    static <E extends Event> EventResult<E> cancelled(EventType<E> eventType, E event, int cancelledBy)
+    {
+        return new EventResultImpl<>(eventType, event, CANCELLED, cancelledBy);
     }
 
     /**
@@ -113,6 +142,6 @@ public sealed interface EventResult<E extends Event> extends IntSupplier permits
      */
     static <E extends Event> EventResult<E> pass(EventType<E> eventType)
     {
-        return new EventResultImpl<>(eventType, null, PASS);
+        return new EventResultImpl<>(eventType, null, PASS, UNKNOWN_LISTENER);
     }
 }
@@ -10,12 +10,14 @@ final class EventResultImpl<E extends Event> implements EventResult<E>
     @Nullable
     private final E event;
     private final int type;
+    private final int cancelledBy;
 
-    EventResultImpl(EventType<E> eventType, @Nullable E event, int type)
+    EventResultImpl(EventType<E> eventType, @Nullable E event, int type, int cancelledBy)
     {
         this.eventType = eventType;
         this.event = event;
         this.type = type;
+        this.cancelledBy = cancelledBy;
     }
 
     @Override
@@ -67,6 +69,12 @@ final class EventResultImpl<E extends Event> implements EventResult<E>
         return type == PASS;
     }
 
+    @Override
+    public int cancelledBy()
+    {
+        return cancelledBy;
+    }
+
     @Override
     public int getAsInt()
     {
@@ -0,0 +1,127 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// scans classes for @Subscribe methods, binding each one into a Consumer through LambdaMetafactory
+// scanned methods are cached per class through a ClassValue, which is stored on the class itself
+// the bound handles strongly reference the class, so a weak keyed map would never let it be collected
+final class EventSubscribers
+{
+    // scanning needs the callers lookup, so the value is filled in lazily on first subscription
+    private static final ClassValue<AtomicReference<List<Subscriber>>> CACHE = new ClassValue<>()
+    {
+        @Override
+        protected AtomicReference<List<Subscriber>> computeValue(Class<?> type)
+        {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final MethodType ACCEPT_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private EventSubscribers()
+    {
+    }
+
+    static void subscribe(ListenerGroup group, MethodHandles.Lookup lookup, Class<?> type, @Nullable Object instance)
+    {
+        MethodHandles.Lookup privateLookup;
+
+        try
+        {
+            // validates the caller has access to the type, even when its methods are already cached
+            privateLookup = MethodHandles.privateLookupIn(type, lookup);
+        }
+        catch(IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Lookup has no access to subscriber class: '%s'".formatted(type.getName()), e);
+        }
+
+        var subscribers = CACHE.get(type).updateAndGet(cached -> cached == null ? scan(privateLookup, type) : cached);
+
+        // committed as one batch, so each EventType rebuilds its table once per subscription
+        group.batch(batch -> {
+            for(var subscriber : subscribers)
+            {
+                // static methods are only registered for class subscriptions, instance methods only for object subscriptions
+                if(subscriber.isStatic != (instance == null)) continue;
+                subscriber.register(batch, instance);
+            }
+        });
+    }
+
+    private static List<Subscriber> scan(MethodHandles.Lookup lookup, Class<?> type)
+    {
+        var subscribers = Lists.<Subscriber>newArrayList();
+
+        for(var method : type.getDeclaredMethods())
+        {
+            var subscribe = method.getAnnotation(Subscribe.class);
+            if(subscribe == null) continue;
+
+            if(method.getReturnType() != void.class || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0]))
+                throw new IllegalArgumentException("@Subscribe method must return void and take a single Event parameter: '%s'".formatted(method));
+
+            subscribers.add(new Subscriber(method.getParameterTypes()[0].asSubclass(Event.class), subscribe, Modifier.isStatic(method.getModifiers()), bind(lookup, type, method)));
+        }
+
+        return List.copyOf(subscribers);
+    }
+
+    // spins a Consumer implementation invoking the method directly, as fast as a hand written lambda
+    private static MethodHandle bind(MethodHandles.Lookup lookup, Class<?> type, Method method)
+    {
+        try
+        {
+            var handle = lookup.unreflect(method);
+            var factoryType = Modifier.isStatic(method.getModifiers()) ? MethodType.methodType(Consumer.class) : MethodType.methodType(Consumer.class, type);
+            var eventType = MethodType.methodType(void.class, method.getParameterTypes()[0]);
+            return LambdaMetafactory.metafactory(lookup, "accept", factoryType, ACCEPT_TYPE, handle, eventType).getTarget();
+        }
+        catch(ReflectiveOperationException | LambdaConversionException e)
+        {
+            throw new IllegalArgumentException("Failed to bind @Subscribe method: '%s'".formatted(method), e);
+        }
+    }
+
+    private record Subscriber(Class<? extends Event> eventClass, Subscribe subscribe, boolean isStatic, MethodHandle factory)
+    {
+        private void register(ListenerGroup group, @Nullable Object instance)
+        {
+            register(group, eventClass, instance);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E extends Event> void register(ListenerGroup group, Class<E> eventClass, @Nullable Object instance)
+        {
+            Consumer<E> listener;
+
+            try
+            {
+                listener = (Consumer<E>) (isStatic ? factory.invoke() : factory.invoke(instance));
+            }
+            catch(Throwable e)
+            {
+                throw new IllegalStateException("Failed to construct listener for @Subscribe method of: '%s'".formatted(eventClass.getName()), e);
+            }
+
+            var eventType = EventType.of(eventClass);
+
+            // no EventType registered for the parameter, listen for all events extending it
+            if(eventType == null) group.addHierarchyListener(eventClass, subscribe.priority(), subscribe.skipCancelled(), listener);
+            else group.addListener(eventType, subscribe.priority(), subscribe.skipCancelled(), listener);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package xyz.apex.utils.events;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -14,12 +18,93 @@ import java.util.function.Consumer;
 public sealed interface EventType<E extends Event> permits EventTypeImpl
 {
     /**
-     * Registers a new listener.
+     * Registers a new listener, with {@link EventPriority#NORMAL normal} priority.
      *
      * @param listener Listener to be invoked when event of given EventType is posted.
      */
     void addListener(Consumer<E> listener);
 
+    /**
+     * Registers a new listener with the given priority.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     */
+    void addListener(EventPriority priority, Consumer<E> listener);
+
+    /**
+     * Registers a new listener with the given priority.
+     * <p>
+     * Listeners skipping cancelled Events are not invoked at all once a higher priority listener has cancelled the Event.
+     * This has no effect for Events which are not {@link CancellableEvent cancellable}.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     */
+    void addListener(EventPriority priority, boolean skipCancelled, Consumer<E> listener);
+
+    /**
+     * Registers a new listener with the given priority.
+     * <p>
+     * Concurrent listeners do not require in order delivery, when the Event is {@link #postAsync(Object...) posted asynchronously}
+     * they are invoked in parallel with each other, after all none concurrent listeners.
+     * Synchronous posts always invoke all listeners in order.
+     *
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param concurrent True if the listener may be invoked concurrently with other listeners.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     */
+    void addListener(EventPriority priority, boolean skipCancelled, boolean concurrent, Consumer<E> listener);
+
+    /**
+     * Registers a new listener, only invoked for Events with the given key, with {@link EventPriority#NORMAL normal} priority.
+     *
+     * @param key Key of the Events to listen for.
+     * @param listener Listener to be invoked when event of given EventType &#38; key is posted.
+     * @throws IllegalStateException If this EventType is not {@link EventTypeBuilder#keyedBy(java.util.function.Function) keyed}.
+     */
+    void addKeyedListener(Object key, Consumer<E> listener);
+
+    /**
+     * Registers a new listener, only invoked for Events with the given key.
+     *
+     * @param key Key of the Events to listen for.
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked when event of given EventType &#38; key is posted.
+     * @throws IllegalStateException If this EventType is not {@link EventTypeBuilder#keyedBy(java.util.function.Function) keyed}.
+     */
+    void addKeyedListener(Object key, EventPriority priority, boolean skipCancelled, Consumer<E> listener);
+
+    /**
+     * Registers a new listener scoped to the given owner, with {@link EventPriority#NORMAL normal} priority.
+     *
+     * @param owner Owner of the listener, held weakly.
+     * @param listener Listener to be invoked with the owner when event of given EventType is posted.
+     * @param <O> Type of the owner.
+     * @see #addWeakListener(Object, EventPriority, boolean, BiConsumer)
+     */
+    <O> void addWeakListener(O owner, BiConsumer<O, E> listener);
+
+    /**
+     * Registers a new listener scoped to the given owner.
+     * <p>
+     * The owner is only held weakly &#38; passed along to the listener when invoked,
+     * once collected the listener stops being invoked &#38; is dropped the next time any EventType's listeners change.
+     * The listener must not capture the owner itself, or the owner will never be collected.
+     * <p>
+     * Mainly used to avoid leaking unloaded plugin classloaders in long running applications.
+     *
+     * @param owner Owner of the listener, held weakly.
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked with the owner when event of given EventType is posted.
+     * @param <O> Type of the owner.
+     */
+    <O> void addWeakListener(O owner, EventPriority priority, boolean skipCancelled, BiConsumer<O, E> listener);
+
     /**
      * Unregisters the given event listener.
      *
@@ -40,6 +125,160 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
      */
     EventResult<E> post(Object... eventArgs);
 
+    /**
+     * Posts an Event taking no args to all registered listeners.
+     *
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see #post(Object...)
+     */
+    EventResult<E> post();
+
+    /**
+     * Posts an Event taking 1 arg to all registered listeners, without allocating an args array.
+     *
+     * @param arg0 First arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see #post(Object...)
+     */
+    EventResult<E> post(Object arg0);
+
+    /**
+     * Posts an Event taking 2 args to all registered listeners, without allocating an args array.
+     *
+     * @param arg0 First arg passed along to EventType to construct a new event instance.
+     * @param arg1 Second arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see #post(Object...)
+     */
+    EventResult<E> post(Object arg0, Object arg1);
+
+    /**
+     * Posts an Event taking 3 args to all registered listeners, without allocating an args array.
+     *
+     * @param arg0 First arg passed along to EventType to construct a new event instance.
+     * @param arg1 Second arg passed along to EventType to construct a new event instance.
+     * @param arg2 Third arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see #post(Object...)
+     */
+    EventResult<E> post(Object arg0, Object arg1, Object arg2);
+
+    /**
+     * Posts an Event taking 4 args to all registered listeners, without allocating an args array.
+     *
+     * @param arg0 First arg passed along to EventType to construct a new event instance.
+     * @param arg1 Second arg passed along to EventType to construct a new event instance.
+     * @param arg2 Third arg passed along to EventType to construct a new event instance.
+     * @param arg3 Fourth arg passed along to EventType to construct a new event instance.
+     * @return whether this event was posted successfully, cancelled or passed.
+     * @see #post(Object...)
+     */
+    EventResult<E> post(Object arg0, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Posts a batch of Events to all registered listeners.
+     * <p>
+     * Each element holds the args used to construct one Event instance,
+     * listeners are invoked in the {@link EventTypeBuilder#batchOrder(BatchOrder) batch order} this EventType was registered with.
+     *
+     * @param eventArgs Args passed along to EventType to construct each new event instance.
+     * @return Compact result stating which of the events were cancelled.
+     */
+    BulkEventResult<E> postAll(Iterable<Object[]> eventArgs);
+
+    /**
+     * Posts a batch of already constructed Events to all registered listeners.
+     *
+     * @param events Events to be posted.
+     * @return Compact result stating which of the events were cancelled.
+     * @see #postAll(Iterable)
+     */
+    BulkEventResult<E> postAllEvents(Iterable<E> events);
+
+    /**
+     * Posts the Event to all registered listeners, on the executor this EventType was registered with.
+     * <p>
+     * None concurrent listeners are invoked in order on a single task, followed by all concurrent listeners in parallel.
+     * The Event is always constructed on the calling thread &#38; is never pooled.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return Future completed with whether this event was posted successfully, cancelled or passed.
+     * @see EventTypeBuilder#executor(java.util.concurrent.Executor)
+     */
+    CompletableFuture<EventResult<E>> postAsync(Object... eventArgs);
+
+    /**
+     * Enqueues the Event to be posted during the next {@link #drain()}, may be called from any thread.
+     * <p>
+     * The Event is constructed while draining, on the draining thread.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return True if the Event was enqueued, false if it was dropped due to the queue being full.
+     * @throws IllegalStateException If this EventType was not registered with a queue, or the queue is full &#38; using {@link BackpressurePolicy#THROW}.
+     * @see EventTypeBuilder#queue(int, BackpressurePolicy)
+     */
+    boolean enqueue(Object... eventArgs);
+
+    /**
+     * Posts all currently enqueued Events in the order they were enqueued.
+     * <p>
+     * Should be called once per tick by the single thread owning this EventType, Events enqueued while draining are left for the next drain.
+     *
+     * @return Number of Events posted.
+     * @throws IllegalStateException If this EventType was not registered with a queue, or is already being drained.
+     */
+    int drain();
+
+    /**
+     * @return Approximate number of Events currently enqueued.
+     */
+    int queuedCount();
+
+    /**
+     * Constructs the Event &#38; holds it until the next {@link #flush()}, may be called from any thread.
+     * <p>
+     * Only a single Event is held per coalescing key, replacing or merging with any Event already pending for that key,
+     * so listeners are invoked once per key per flush rather than once per change.
+     * The Event is constructed on the calling thread &#38; is never pooled.
+     *
+     * @param eventArgs Args passed along to EventType to construct a new event instance.
+     * @return True if the Event replaced or was merged into an already pending Event.
+     * @throws IllegalStateException If this EventType was not registered with coalescing.
+     * @see EventTypeBuilder#coalesceBy(java.util.function.Function, java.util.function.BinaryOperator)
+     */
+    boolean coalesce(Object... eventArgs);
+
+    /**
+     * Posts all pending coalesced Events, in the order their keys were first coalesced since the last flush.
+     * <p>
+     * Events coalesced by listeners while flushing are left for the next flush.
+     *
+     * @return Compact result stating which of the flushed events were cancelled.
+     * @throws IllegalStateException If this EventType was not registered with coalescing.
+     */
+    BulkEventResult<E> flush();
+
+    /**
+     * @return Number of coalesced Events pending the next flush.
+     */
+    int pendingCount();
+
+    /**
+     * Creates a publisher streaming Events posted to this EventType, with demand controlled by each subscriber.
+     * <p>
+     * Each subscriber registers its own {@link EventPriority#LOWEST lowest priority} listener, skipping cancelled Events,
+     * which buffers posted Events until the subscriber requests them. Events are delivered in order on the executor this EventType was registered with,
+     * so a slow subscriber only fills its own buffer rather than stalling posting, unless using {@link OverflowPolicy#BLOCK}.
+     * Can not be used with pooled EventTypes, as buffered instances would be reused.
+     *
+     * @param bufferSize Max number of Events buffered per subscriber.
+     * @param overflow Policy used when an Event is posted while a subscribers buffer is full.
+     * @return Newly created publisher.
+     * @throws IllegalStateException If this EventType is pooled.
+     * @see EventTypeBuilder#executor(java.util.concurrent.Executor)
+     */
+    Flow.Publisher<E> publisher(int bufferSize, OverflowPolicy overflow);
+
     /**
      * Constructs a new Event instance.
      * <p>
@@ -53,6 +292,15 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
     @ApiStatus.Internal
     E newInstance(Object... args);
 
+    /**
+     * Returns the dispatch metrics for this EventType.
+     * <p>
+     * Metrics are disabled by default, enable them using {@link EventMetrics#setEnabled(boolean)} or {@link EventTypeBuilder#metrics()}.
+     *
+     * @return Dispatch metrics for this EventType.
+     */
+    EventMetrics metrics();
+
     /**
      * @return Class type this EventType is bound to.
      */
@@ -68,8 +316,90 @@ public sealed interface EventType<E extends Event> permits EventTypeImpl
      */
     static <E extends Event> EventType<E> register(Class<E> eventType, Class<?>... argTypes)
     {
-        var instance = new EventTypeImpl<>(eventType, argTypes);
-        if(EventTypeImpl.EVENT_TYPES.put(eventType, instance) != null) throw new IllegalStateException("Duplicate event type registration: '%s'".formatted(eventType.getName()));
-        return instance;
+        return builder(eventType).constructor(argTypes).register();
+    }
+
+    /**
+     * Registers a new EventType, Only 1 EventType may exist per Event.
+     * <p>
+     * Events are constructed using the given factory, which is usually bound to a constructor reference,
+     * e.g. {@code EventFactory.of(Config.class, ConfigLoadEvent::new)}.
+     *
+     * @param eventType Type of Event to create the EventType for.
+     * @param factory Factory used to construct new Event instances.
+     * @return Newly registered EventType.
+     * @param <E> Type of Event for this EventType.
+     */
+    static <E extends Event> EventType<E> register(Class<E> eventType, EventFactory<E> factory)
+    {
+        return builder(eventType).factory(factory).register();
+    }
+
+    /**
+     * Registers a new listener for all Events extending or implementing the given type, with {@link EventPriority#NORMAL normal} priority.
+     *
+     * @param eventType Super type or interface of the Events to listen for, e.g. {@link CancellableEvent}.
+     * @param listener Listener to be invoked when any matching event is posted.
+     * @param <T> Super type of the Events to listen for.
+     * @see #addHierarchyListener(Class, EventPriority, boolean, Consumer)
+     */
+    static <T extends Event> void addHierarchyListener(Class<T> eventType, Consumer<T> listener)
+    {
+        addHierarchyListener(eventType, EventPriority.NORMAL, false, listener);
+    }
+
+    /**
+     * Registers a new listener for all Events extending or implementing the given type.
+     * <p>
+     * The listener is resolved into the dispatch table of every matching EventType, including those registered later.
+     * It is invoked after listeners registered directly onto the EventType with the same priority.
+     *
+     * @param eventType Super type or interface of the Events to listen for, e.g. {@link CancellableEvent}.
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked when any matching event is posted.
+     * @param <T> Super type of the Events to listen for.
+     */
+    static <T extends Event> void addHierarchyListener(Class<T> eventType, EventPriority priority, boolean skipCancelled, Consumer<T> listener)
+    {
+        EventHierarchy.addListener(eventType, new DispatchTable.Registration<>(listener, priority, skipCancelled, false));
+    }
+
+    /**
+     * Unregisters the given super type listener.
+     *
+     * @param eventType Super type or interface the listener was registered for.
+     * @param listener Listener to be unregistered.
+     * @param <T> Super type of the Events the listener was registered for.
+     */
+    static <T extends Event> void removeHierarchyListener(Class<T> eventType, Consumer<T> listener)
+    {
+        EventHierarchy.removeListener(eventType, listener);
+    }
+
+    /**
+     * Looks up the EventType registered for the given Event class.
+     *
+     * @param eventType Type of Event to look up the EventType for.
+     * @return The registered EventType or null if none exists.
+     * @param <E> Type of Event for this EventType.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    static <E extends Event> EventType<E> of(Class<E> eventType)
+    {
+        return (EventType<E>) EventTypeImpl.EVENT_TYPES.get(eventType);
+    }
+
+    /**
+     * Constructs a new EventTypeBuilder, used to register EventTypes with non default options.
+     *
+     * @param eventType Type of Event to create the EventType for.
+     * @return Newly constructed EventTypeBuilder.
+     * @param <E> Type of Event for this EventType.
+     */
+    static <E extends Event> EventTypeBuilder<E> builder(Class<E> eventType)
+    {
+        return new EventTypeBuilderImpl<>(eventType);
     }
 }
@@ -0,0 +1,217 @@
+package xyz.apex.utils.events;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * EventTypeBuilder - Used to build &#38; register new EventTypes with non default options.
+ *
+ * @param <E> Type of Event the EventType is being built for.
+ */
+public sealed interface EventTypeBuilder<E extends Event> permits EventTypeBuilderImpl
+{
+    /**
+     * Sets the factory used to construct new Event instances.
+     *
+     * @param factory Factory used to construct new Event instances.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> factory(EventFactory<E> factory);
+
+    /**
+     * Sets the factory used to construct new Event instances to the public constructor matching the given arg types.
+     *
+     * @param argTypes Argument types to be used to look up a matching constructor.
+     * @return This builder.
+     * @see EventFactory#constructor(Class, Class[])
+     */
+    EventTypeBuilder<E> constructor(Class<?>... argTypes);
+
+    /**
+     * Marks the EventType as pooled.
+     * <p>
+     * Pooled EventTypes construct a single Event instance per thread, which is reset &#38; reused for every post on that thread.
+     * Successful &#38; cancelled EventResults are also cached alongside the pooled instance, so steady state posting produces no garbage.
+     * <p>
+     * The Event class <b>MUST</b> implement {@link ReusableEvent}.
+     * Pooled Events &#38; their EventResults are only valid until the next post on the same thread, and should not be held onto by listeners.
+     *
+     * @return This builder.
+     */
+    EventTypeBuilder<E> pooled();
+
+    /**
+     * Marks the EventType as short circuiting.
+     * <p>
+     * Short circuiting EventTypes stop invoking listeners as soon as one of them cancels the Event,
+     * the index of the cancelling listener is reported through {@link EventResult#cancelledBy()}.
+     * <p>
+     * The Event class <b>MUST</b> implement {@link CancellableEvent}.
+     *
+     * @return This builder.
+     */
+    EventTypeBuilder<E> shortCircuit();
+
+    /**
+     * Sets the executor used to invoke listeners when Events are {@link EventType#postAsync(Object...) posted asynchronously}.
+     * <p>
+     * Defaults to virtual threads when running on JDK 21+, or the common {@link java.util.concurrent.ForkJoinPool} otherwise.
+     *
+     * @param executor Executor used to invoke listeners for async posts.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> executor(Executor executor);
+
+    /**
+     * Sets the order listeners are invoked in when multiple Events are {@link EventType#postAll(Iterable) posted at once}.
+     * <p>
+     * Defaults to {@link BatchOrder#EVENT_MAJOR}.
+     *
+     * @param batchOrder Order listeners are invoked in for batched posts.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> batchOrder(BatchOrder batchOrder);
+
+    /**
+     * Enables recording of {@link EventMetrics} from registration onwards.
+     *
+     * @return This builder.
+     * @see EventType#metrics()
+     */
+    EventTypeBuilder<E> metrics();
+
+    /**
+     * Marks the EventType as keyed, allowing listeners to be registered for a single key using {@link EventType#addKeyedListener(Object, Consumer)}.
+     * <p>
+     * The key is extracted once per post, then only listeners registered for that key are invoked alongside all unkeyed listeners,
+     * found using a single hash lookup rather than every listener filtering the Event themselves.
+     * Keyed EventTypes are always posted {@link BatchOrder#EVENT_MAJOR event major}.
+     *
+     * @param keyExtractor Function used to extract the key from posted Events, keys must implement equals &#38; hashCode.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> keyedBy(Function<? super E, ?> keyExtractor);
+
+    /**
+     * Sets the policy used when a listener throws while an Event is being posted.
+     * <p>
+     * Defaults to {@link ExceptionPolicy#FAIL_FAST}.
+     * Only applies to synchronous &#38; {@link BatchOrder#EVENT_MAJOR event major} batched posts, all others always fail fast.
+     *
+     * @param exceptionPolicy Policy used when a listener throws.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> exceptionPolicy(ExceptionPolicy exceptionPolicy);
+
+    /**
+     * Sets the policy used when a listener throws while an Event is being posted.
+     *
+     * @param exceptionPolicy Policy used when a listener throws.
+     * @param maxFailures Number of failures after which listeners are unregistered, when using {@link ExceptionPolicy#DISABLE}, defaults to 3.
+     * @return This builder.
+     * @see #exceptionPolicy(ExceptionPolicy)
+     */
+    EventTypeBuilder<E> exceptionPolicy(ExceptionPolicy exceptionPolicy, int maxFailures);
+
+    /**
+     * Enables the bounded queue used to {@link EventType#enqueue(Object...) enqueue} Events for deferred dispatch.
+     * <p>
+     * Any number of threads may enqueue Events without locking, while a single owning thread {@link EventType#drain() drains} them.
+     *
+     * @param capacity Max number of queued Events, rounded up to the next power of 2, no less than 2.
+     * @param backpressure Policy used when enqueuing while the queue is full.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> queue(int capacity, BackpressurePolicy backpressure);
+
+    /**
+     * Enables {@link EventType#coalesce(Object...) coalescing} Events by key, keeping only the latest pending Event per key until {@link EventType#flush() flushed}.
+     *
+     * @param keyExtractor Function used to extract the coalescing key from Events, keys must implement equals &#38; hashCode.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> coalesceBy(Function<? super E, ?> keyExtractor);
+
+    /**
+     * Enables {@link EventType#coalesce(Object...) coalescing} Events by key, merging all pending Events per key until {@link EventType#flush() flushed}.
+     *
+     * @param keyExtractor Function used to extract the coalescing key from Events, keys must implement equals &#38; hashCode.
+     * @param merger Function merging the currently pending Event with a newly coalesced Event of the same key, must never return null.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> coalesceBy(Function<? super E, ?> keyExtractor, BinaryOperator<E> merger);
+
+    /**
+     * Enables parallel dispatch on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return This builder.
+     * @see #parallel(ForkJoinPool)
+     */
+    EventTypeBuilder<E> parallel();
+
+    /**
+     * Enables parallel dispatch, splitting the listeners of each synchronous post across the given pool &#38; joining before the post returns.
+     * <p>
+     * Intended for Events with many expensive, independent listeners. Listeners may run in any order &#38; on any thread of the pool,
+     * so priorities only decide which listeners are forked first &#38; {@link EventResult#cancelledBy()} is never known.
+     * Cancellation must be thread safe, which {@link SimpleCancelableEvent} is.
+     * Can not be combined with {@link #shortCircuit()}.
+     *
+     * @param pool Pool used to invoke listeners in parallel.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> parallel(ForkJoinPool pool);
+
+    /**
+     * Enables compiled dispatch, spinning a hidden class which invokes every listener from its own call site.
+     * The class is spun on the first post after the listeners changed, for each key posted to when {@link #keyedBy(Function) keyed}.
+     * <p>
+     * Generic dispatch invokes all listeners of all EventTypes from a single shared call site, which the JIT can not inline through.
+     * Compiled dispatch binds the listeners as constants in an unrolled loop, allowing small listeners to be inlined,
+     * at the cost of defining a new class after every listener change. Best suited to hot EventTypes whose listeners rarely change.
+     * <p>
+     * Only applies to posts which would otherwise take the plain listener loop, EventTypes which short circuit, have listeners skipping cancelled Events,
+     * record metrics, isolate exceptions or dispatch in parallel always use generic dispatch, as do listener sets larger than 512.
+     *
+     * @return This builder.
+     */
+    EventTypeBuilder<E> compiled();
+
+    /**
+     * Makes the EventType sticky, retaining the last posted Event &#38; delivering it to listeners as soon as they are registered.
+     * <p>
+     * Keyed EventTypes retain the last Event per key, keyed listeners only receive the Event for their key while unkeyed listeners receive all retained Events.
+     * Only Events which were not cancelled by any listener are retained. Pooled EventTypes can not be sticky.
+     * <p>
+     * Retained Events are the same instances delivered to every new listener, so listeners should treat them as read only.
+     * <p>
+     * Events are retained once dispatched, registering a listener waits for in flight posts so it never receives an Event twice or out of order,
+     * unless registered from within a listener of the same EventType. Batched posts dispatch each Event to all listeners before the next.
+     * A listener throwing while receiving a retained Event under {@link ExceptionPolicy#FAIL_FAST} is not registered.
+     *
+     * @param maxRetained Max number of retained Events, the least recently posted key is evicted first.
+     * @return This builder.
+     */
+    EventTypeBuilder<E> sticky(int maxRetained);
+
+    /**
+     * Makes the EventType sticky, retaining Events for a limited time.
+     *
+     * @param maxRetained Max number of retained Events, the least recently posted key is evicted first.
+     * @param expireAfter Time after which retained Events are no longer delivered.
+     * @return This builder.
+     * @see #sticky(int)
+     */
+    EventTypeBuilder<E> sticky(int maxRetained, Duration expireAfter);
+
+    /**
+     * Builds &#38; registers the EventType, Only 1 EventType may exist per Event.
+     *
+     * @return Newly registered EventType.
+     */
+    EventType<E> register();
+}
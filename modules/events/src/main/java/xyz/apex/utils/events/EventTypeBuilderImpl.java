@@ -0,0 +1,181 @@
+package xyz.apex.utils.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+final class EventTypeBuilderImpl<E extends Event> implements EventTypeBuilder<E>
+{
+    final Class<E> classType;
+    @Nullable EventFactory<E> factory = null;
+    boolean pooled = false;
+    boolean shortCircuit = false;
+    Executor executor = EventExecutors.DEFAULT;
+    BatchOrder batchOrder = BatchOrder.EVENT_MAJOR;
+    boolean metrics = false;
+    @Nullable Function<? super E, ?> keyExtractor = null;
+    ExceptionPolicy exceptionPolicy = ExceptionPolicy.FAIL_FAST;
+    int maxFailures = 3;
+    int queueCapacity = 0;
+    BackpressurePolicy backpressure = BackpressurePolicy.DROP;
+    @Nullable Function<? super E, ?> coalesceKeyExtractor = null;
+    @Nullable BinaryOperator<E> coalesceMerger = null;
+    @Nullable ForkJoinPool parallelPool = null;
+    boolean compiled = false;
+    int stickyRetention = 0;
+    @Nullable Duration stickyExpiry = null;
+
+    EventTypeBuilderImpl(Class<E> classType)
+    {
+        this.classType = classType;
+    }
+
+    @Override
+    public EventTypeBuilder<E> factory(EventFactory<E> factory)
+    {
+        this.factory = factory;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> constructor(Class<?>... argTypes)
+    {
+        return factory(EventFactory.constructor(classType, argTypes));
+    }
+
+    @Override
+    public EventTypeBuilder<E> pooled()
+    {
+        pooled = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> shortCircuit()
+    {
+        shortCircuit = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> executor(Executor executor)
+    {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> batchOrder(BatchOrder batchOrder)
+    {
+        this.batchOrder = batchOrder;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> metrics()
+    {
+        metrics = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> keyedBy(Function<? super E, ?> keyExtractor)
+    {
+        this.keyExtractor = keyExtractor;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> exceptionPolicy(ExceptionPolicy exceptionPolicy)
+    {
+        this.exceptionPolicy = exceptionPolicy;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> exceptionPolicy(ExceptionPolicy exceptionPolicy, int maxFailures)
+    {
+        if(maxFailures < 1) throw new IllegalArgumentException("Max failures must be at least 1, but was given %d".formatted(maxFailures));
+        this.maxFailures = maxFailures;
+        return exceptionPolicy(exceptionPolicy);
+    }
+
+    @Override
+    public EventTypeBuilder<E> queue(int capacity, BackpressurePolicy backpressure)
+    {
+        if(capacity < 1) throw new IllegalArgumentException("Queue capacity must be at least 1, but was given %d".formatted(capacity));
+        queueCapacity = capacity;
+        this.backpressure = backpressure;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> coalesceBy(Function<? super E, ?> keyExtractor)
+    {
+        return coalesceBy(keyExtractor, (pending, latest) -> latest);
+    }
+
+    @Override
+    public EventTypeBuilder<E> coalesceBy(Function<? super E, ?> keyExtractor, BinaryOperator<E> merger)
+    {
+        coalesceKeyExtractor = keyExtractor;
+        coalesceMerger = merger;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> parallel()
+    {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public EventTypeBuilder<E> parallel(ForkJoinPool pool)
+    {
+        parallelPool = pool;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> compiled()
+    {
+        compiled = true;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> sticky(int maxRetained)
+    {
+        if(maxRetained < 1) throw new IllegalArgumentException("Max retained sticky events must be at least 1, but was given %d".formatted(maxRetained));
+        stickyRetention = maxRetained;
+        return this;
+    }
+
+    @Override
+    public EventTypeBuilder<E> sticky(int maxRetained, Duration expireAfter)
+    {
+        stickyExpiry = expireAfter;
+        return sticky(maxRetained);
+    }
+
+    @Override
+    public EventType<E> register()
+    {
+        if(factory == null) constructor();
+        if(shortCircuit && !CancellableEvent.class.isAssignableFrom(classType)) throw new IllegalStateException("Short circuiting event type must implement CancellableEvent: '%s'".formatted(classType.getName()));
+        if(shortCircuit && parallelPool != null) throw new IllegalStateException("Short circuiting event type can not be dispatched in parallel: '%s'".formatted(classType.getName()));
+        if(pooled && stickyRetention > 0) throw new IllegalStateException("Pooled event type can not be sticky: '%s'".formatted(classType.getName()));
+        if(pooled && !ReusableEvent.class.isAssignableFrom(classType)) throw new IllegalStateException("Pooled event type must implement ReusableEvent: '%s'".formatted(classType.getName()));
+
+        var instance = new EventTypeImpl<>(this);
+        if(EventTypeImpl.EVENT_TYPES.putIfAbsent(classType, instance) != null) throw new IllegalStateException("Duplicate event type registration: '%s'".formatted(classType.getName()));
+        // only once registered, enabling metrics registers an MBean named after the event class
+        if(metrics) instance.metrics().setEnabled(true);
+        EventHierarchy.resolve(instance);
+        return instance;
+    }
+}
@@ -1,86 +1,610 @@
 package xyz.apex.utils.events;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import xyz.apex.utils.core.ApexUtils;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 final class EventTypeImpl<E extends Event> implements EventType<E>
 {
-    static final Map<Class<?>, EventType<?>> EVENT_TYPES = Maps.newHashMap();
+    // registration may happen on parallel class-init threads, lookups never lock
+    static final Map<Class<?>, EventType<?>> EVENT_TYPES = Maps.newConcurrentMap();
+    private static final int NOT_CANCELLED = Integer.MIN_VALUE;
+    // sticky key of events which are not keyed, or whose key is null
+    private static final Object NO_KEY = new Object();
 
     private final Class<E> classType;
-    private final Constructor<E> constructor;
+    private final EventFactory<E> factory;
+    @Nullable private final EventPool<E> pool;
+    @Nullable private final EventQueue queue;
+    @Nullable private final EventCoalescer<E> coalescer;
+    private final EventResult<E> passResult = EventResult.pass(this);
+    private final EventMetricsImpl metrics = new EventMetricsImpl(this);
+    private final boolean cancellable;
+    private final boolean shortCircuit;
+    private final Executor executor;
+    private final BatchOrder batchOrder;
+    @Nullable private final Function<? super E, ?> keyExtractor;
+    private final ExceptionPolicy exceptionPolicy;
+    private final int maxFailures;
+    @Nullable private final ForkJoinPool parallelPool;
+    private final boolean compiled;
+    // last event per key, delivered to listeners as they are registered
+    @Nullable private final Cache<Object, E> sticky;
+    // sticky posts dispatch & retain under the read lock, registering listeners delivers retained events under the write lock
+    // so a new listener receives each event exactly once & in order, either retained or dispatched
+    @Nullable private final ReentrantReadWriteLock stickyLock;
+    private final Object lock = new Object();
+    // listeners registered directly onto this EventType, sorted by priority, guarded by lock
+    private DispatchTable.Registration<E>[] own = DispatchTable.noRegistrations();
+    // listeners registered onto super types of this EventType, resolved by EventHierarchy, guarded by lock
+    private DispatchTable.Registration<E>[] inherited = DispatchTable.noRegistrations();
+    // copy-on-write snapshot of own & inherited listeners, swapped out on add/remove so posting never sees a partially modified table
     @VisibleForTesting
-    public final List<Consumer<E>> listeners = Lists.newLinkedList();
+    volatile DispatchTable<E> table = DispatchTable.empty();
+    // recorder capturing posts of this EventType, if any, swapped under lock
+    @Nullable private volatile EventRecorderImpl.Binding recording = null;
 
-    EventTypeImpl(Class<E> classType, Class<?>... argTypes)
+    EventTypeImpl(EventTypeBuilderImpl<E> builder)
     {
-        this.classType = classType;
+        classType = builder.classType;
+        factory = Objects.requireNonNull(builder.factory);
+        pool = builder.pooled ? new EventPool<>(this, factory) : null;
+        coalescer = builder.coalesceKeyExtractor == null ? null : new EventCoalescer<>(builder.coalesceKeyExtractor, Objects.requireNonNull(builder.coalesceMerger));
+        queue = builder.queueCapacity > 0 ? new EventQueue(builder.queueCapacity, builder.backpressure) : null;
+        cancellable = CancellableEvent.class.isAssignableFrom(classType);
+        shortCircuit = builder.shortCircuit;
+        executor = builder.executor;
+        keyExtractor = builder.keyExtractor;
+        exceptionPolicy = builder.exceptionPolicy;
+        maxFailures = builder.maxFailures;
+        parallelPool = builder.parallelPool;
+        compiled = builder.compiled;
+        // keyed events each dispatch to their own table, so can not be posted listener major
+        batchOrder = keyExtractor == null ? builder.batchOrder : BatchOrder.EVENT_MAJOR;
 
-        try
+        if(builder.stickyRetention > 0)
         {
-            constructor = classType.getConstructor(argTypes);
+            var cache = CacheBuilder.newBuilder().maximumSize(builder.stickyRetention);
+            if(builder.stickyExpiry != null) cache.expireAfterWrite(builder.stickyExpiry);
+            sticky = cache.build();
+            stickyLock = new ReentrantReadWriteLock();
         }
-        catch(NoSuchMethodException e)
+        else
         {
-            throw new RuntimeException("Failed to find matching constructor for event class: '%s' (%s')".formatted(classType.getName(), Arrays.toString(argTypes)), e);
+            sticky = null;
+            stickyLock = null;
         }
     }
 
     @Override
     public void addListener(Consumer<E> listener)
     {
-        listeners.add(listener);
+        addListener(EventPriority.NORMAL, false, listener);
+    }
+
+    @Override
+    public void addListener(EventPriority priority, Consumer<E> listener)
+    {
+        addListener(priority, false, listener);
+    }
+
+    @Override
+    public void addListener(EventPriority priority, boolean skipCancelled, Consumer<E> listener)
+    {
+        addListener(priority, skipCancelled, false, listener);
+    }
+
+    @Override
+    public void addListener(EventPriority priority, boolean skipCancelled, boolean concurrent, Consumer<E> listener)
+    {
+        addListener(priority, skipCancelled, concurrent, listener, null, null);
+    }
+
+    @Override
+    public void addKeyedListener(Object key, Consumer<E> listener)
+    {
+        addKeyedListener(key, EventPriority.NORMAL, false, listener);
+    }
+
+    @Override
+    public void addKeyedListener(Object key, EventPriority priority, boolean skipCancelled, Consumer<E> listener)
+    {
+        if(keyExtractor == null) throw new IllegalStateException("Keyed listeners require a keyed event type: '%s'".formatted(classType.getName()));
+        addListener(priority, skipCancelled, false, listener, null, key);
+    }
+
+    @Override
+    public <O> void addWeakListener(O owner, BiConsumer<O, E> listener)
+    {
+        addWeakListener(owner, EventPriority.NORMAL, false, listener);
+    }
+
+    @Override
+    public <O> void addWeakListener(O owner, EventPriority priority, boolean skipCancelled, BiConsumer<O, E> listener)
+    {
+        addListener(priority, skipCancelled, false, new WeakListener<>(this, owner, listener), null, null);
+    }
+
+    void addListener(EventPriority priority, boolean skipCancelled, boolean concurrent, Consumer<E> listener, @Nullable ListenerGroup owner, @Nullable Object key)
+    {
+        addListeners(List.of(registration(priority, skipCancelled, concurrent, listener, owner, key)));
+    }
+
+    DispatchTable.Registration<E> registration(EventPriority priority, boolean skipCancelled, boolean concurrent, Consumer<E> listener, @Nullable ListenerGroup owner, @Nullable Object key)
+    {
+        // skipping only means something for cancellable events, keeps the plain loop for all others
+        return new DispatchTable.Registration<>(listener, priority, skipCancelled && cancellable, concurrent, owner, key);
+    }
+
+    // registers all listeners with a single dispatch table rebuild, used by ListenerGroup batches
+    void addListeners(List<DispatchTable.Registration<E>> registrations)
+    {
+        if(stickyLock == null) register(registrations);
+        // registered from a listener while posting this EventType, the write lock can not be taken while holding the read lock
+        // so retained events are delivered without excluding other posts, which may reach the listener before its retained events do
+        else if(stickyLock.getReadHoldCount() > 0)
+        {
+            register(registrations);
+            registrations.forEach(registration -> deliverSticky(registration.listener(), registration.key()));
+        }
+        else
+        {
+            stickyLock.writeLock().lock();
+
+            try
+            {
+                // delivered before registering, so a listener failing fast on its retained events is never registered
+                var delivered = Lists.<DispatchTable.Registration<E>>newArrayListWithCapacity(registrations.size());
+                RuntimeException failure = null;
+
+                for(var registration : registrations)
+                {
+                    try
+                    {
+                        deliverSticky(registration.listener(), registration.key());
+                        delivered.add(registration);
+                    }
+                    catch(RuntimeException e)
+                    {
+                        if(failure == null) failure = e;
+                        else failure.addSuppressed(e);
+                    }
+                }
+
+                register(delivered);
+                if(failure != null) throw failure;
+            }
+            finally
+            {
+                stickyLock.writeLock().unlock();
+            }
+        }
+
+        // outside of our lock, purging acquires the locks of other EventTypes
+        WeakListener.expungeStale();
+    }
+
+    private void register(List<DispatchTable.Registration<E>> registrations)
+    {
+        if(registrations.isEmpty()) return;
+
+        synchronized(lock)
+        {
+            for(var registration : registrations)
+            {
+                own = DispatchTable.add(own, registration);
+            }
+
+            table = dispatchTable();
+        }
+    }
+
+    // only events which made it through every listener without being cancelled are retained
+    private void retain(E event)
+    {
+        if(wasCancelled(event)) return;
+        var key = keyExtractor == null ? null : keyExtractor.apply(event);
+        Objects.requireNonNull(sticky).put(key == null ? NO_KEY : key, event);
+    }
+
+    // follows the exception policy, failing fast rethrows & stops delivering
+    private void deliverSticky(Consumer<E> listener, @Nullable Object key)
+    {
+        var sticky = Objects.requireNonNull(this.sticky);
+        var events = key == null ? List.copyOf(sticky.asMap().values()) : Stream.ofNullable(sticky.getIfPresent(key)).toList();
+
+        for(var event : events)
+        {
+            try
+            {
+                listener.accept(event);
+            }
+            catch(Exception e)
+            {
+                if(exceptionPolicy == ExceptionPolicy.FAIL_FAST) throw e;
+                ApexUtils.LOGGER.error("Listener '{}' failed while receiving retained '{}'", listener, this, e);
+            }
+        }
+    }
+
+    // dispatches & retains under the sticky read lock, the table is read under it too so a concurrently registered listener is either in it or was delivered this event
+    private EventResult<E> postSticky(E event)
+    {
+        var readLock = Objects.requireNonNull(stickyLock).readLock();
+        readLock.lock();
+
+        try
+        {
+            // retained even without listeners, but passed like any other post nobody listens to
+            var table = this.table;
+            var result = table.isEmpty() ? pass() : dispatch(table, event);
+            retain(event);
+            return result;
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // always event major, each event is retained once dispatched
+    private BulkEventResult<E> postAllSticky(Iterable<E> events)
+    {
+        var cancelled = new BitSet();
+        var index = 0;
+
+        for(var event : events)
+        {
+            if(postSticky(event).wasCancelled()) cancelled.set(index);
+            index++;
+        }
+
+        return new BulkEventResultImpl<>(this, index, cancelled);
     }
 
     @Override
     public void removeListener(Consumer<E> listener)
     {
-        listeners.remove(listener);
+        synchronized(lock)
+        {
+            own = DispatchTable.remove(own, listener);
+            table = dispatchTable();
+        }
+
+        WeakListener.expungeStale();
+    }
+
+    // invoked when a ListenerGroup is closed
+    void removeOwned(ListenerGroup owner)
+    {
+        synchronized(lock)
+        {
+            own = DispatchTable.removeOwned(own, owner);
+            table = dispatchTable();
+        }
+    }
+
+    // invoked once a weak listener owner was collected
+    void purgeStale()
+    {
+        synchronized(lock)
+        {
+            own = DispatchTable.purgeStale(own);
+            table = dispatchTable();
+        }
+    }
+
+    // invoked by EventHierarchy whenever listeners of a super type change
+    void setInherited(DispatchTable.Registration<E>[] inherited)
+    {
+        synchronized(lock)
+        {
+            this.inherited = inherited;
+            table = dispatchTable();
+        }
+    }
+
+    // guarded by lock, built once from own & inherited listeners
+    private DispatchTable<E> dispatchTable()
+    {
+        return table.rebuild(own, inherited, compiled);
+    }
+
+    void startRecording(EventRecorderImpl.Binding recording)
+    {
+        synchronized(lock)
+        {
+            if(this.recording != null) throw new IllegalStateException("EventType is already being recorded: '%s'".formatted(this));
+            this.recording = recording;
+        }
+    }
+
+    void stopRecording(EventRecorderImpl.Binding recording)
+    {
+        synchronized(lock)
+        {
+            if(this.recording == recording) this.recording = null;
+        }
     }
 
     @Override
     public EventResult<E> post(Object... eventArgs)
     {
-        try
+        var recording = this.recording;
+        if(recording != null) recording.record(eventArgs);
+
+        if(sticky != null) return postSticky(factory.create(eventArgs));
+
+        // read the snapshot once, listeners added or removed while posting apply to the next post
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create(eventArgs) : pool.acquire(eventArgs));
+    }
+
+    @Override
+    public EventResult<E> post()
+    {
+        var recording = this.recording;
+        if(recording != null) recording.record();
+
+        if(sticky != null) return postSticky(factory.create());
+
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create() : pool.acquire());
+    }
+
+    @Override
+    public EventResult<E> post(Object arg0)
+    {
+        var recording = this.recording;
+        if(recording != null) recording.record(arg0);
+
+        if(sticky != null) return postSticky(factory.create(arg0));
+
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create(arg0) : pool.acquire(arg0));
+    }
+
+    @Override
+    public EventResult<E> post(Object arg0, Object arg1)
+    {
+        var recording = this.recording;
+        if(recording != null) recording.record(arg0, arg1);
+
+        if(sticky != null) return postSticky(factory.create(arg0, arg1));
+
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create(arg0, arg1) : pool.acquire(arg0, arg1));
+    }
+
+    @Override
+    public EventResult<E> post(Object arg0, Object arg1, Object arg2)
+    {
+        var recording = this.recording;
+        if(recording != null) recording.record(arg0, arg1, arg2);
+
+        if(sticky != null) return postSticky(factory.create(arg0, arg1, arg2));
+
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create(arg0, arg1, arg2) : pool.acquire(arg0, arg1, arg2));
+    }
+
+    @Override
+    public EventResult<E> post(Object arg0, Object arg1, Object arg2, Object arg3)
+    {
+        var recording = this.recording;
+        if(recording != null) recording.record(arg0, arg1, arg2, arg3);
+
+        if(sticky != null) return postSticky(factory.create(arg0, arg1, arg2, arg3));
+
+        var table = this.table;
+        if(table.isEmpty()) return pass();
+        return dispatch(table, pool == null ? factory.create(arg0, arg1, arg2, arg3) : pool.acquire(arg0, arg1, arg2, arg3));
+    }
+
+    @Override
+    public BulkEventResult<E> postAll(Iterable<Object[]> iterable)
+    {
+        // materialized once, the args may be walked by the recorder and again for dispatch
+        var eventArgs = iterable instanceof Collection<Object[]> collection ? collection : Lists.newArrayList(iterable);
+
+        var recording = this.recording;
+        if(recording != null) eventArgs.forEach(recording::record);
+        if(sticky != null) return postAllSticky(Iterables.transform(eventArgs, factory::create));
+
+        var table = this.table;
+        if(table.isEmpty()) return passAll(eventArgs.size());
+
+        if(batchOrder == BatchOrder.LISTENER_MAJOR)
+        {
+            // every event must exist at once, so these can never be pooled
+            var events = Lists.<E>newArrayList();
+            eventArgs.forEach(args -> events.add(factory.create(args)));
+            return dispatchListenerMajor(table, events);
+        }
+
+        var cancelled = new BitSet();
+        var index = 0;
+
+        for(var args : eventArgs)
         {
-            if(listeners.isEmpty()) return EventResult.pass(this);
-            var event = newInstance(eventArgs);
+            var event = pool == null ? factory.create(args) : pool.acquire(args);
 
-            for(var listener : listeners)
+            try
             {
-                listener.accept(event);
+                if(invoke(table, event) != NOT_CANCELLED) cancelled.set(index);
+            }
+            catch(Throwable e)
+            {
+                ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
+                throw e;
+            }
+            finally
+            {
+                if(pool != null) pool.discard(event);
             }
 
-            if(wasCancelled(event)) return EventResult.cancelled(this, event);
-            return EventResult.success(this, event);
+            index++;
+        }
+
+        return new BulkEventResultImpl<>(this, index, cancelled);
+    }
+
+    @Override
+    public BulkEventResult<E> postAllEvents(Iterable<E> events)
+    {
+        if(sticky != null) return postAllSticky(events);
+
+        var table = this.table;
+        if(table.isEmpty()) return passAll(Iterables.size(events));
+        if(batchOrder == BatchOrder.LISTENER_MAJOR) return dispatchListenerMajor(table, events instanceof List<E> list ? list : Lists.newArrayList(events));
+
+        var cancelled = new BitSet();
+        var index = 0;
+
+        try
+        {
+            for(var event : events)
+            {
+                if(invoke(table, event) != NOT_CANCELLED) cancelled.set(index);
+                index++;
+            }
         }
         catch(Throwable e)
         {
             ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
             throw e;
         }
+
+        return new BulkEventResultImpl<>(this, index, cancelled);
     }
 
     @Override
-    public E newInstance(Object... args)
+    public CompletableFuture<EventResult<E>> postAsync(Object... eventArgs)
     {
-        try
-        {
-            return constructor.newInstance(args);
-        }
-        catch(InvocationTargetException | InstantiationException | IllegalAccessException e)
+        var recording = this.recording;
+        if(recording != null) recording.record(eventArgs);
+
+        // a lock can not be held across stages, so sticky events are dispatched & retained in a single task, including concurrent listeners
+        if(sticky != null)
         {
-            throw new RuntimeException("Failed to construct new event instance for event type: '%s'".formatted(classType.getName()), e);
+            var event = factory.create(eventArgs);
+            return CompletableFuture.supplyAsync(() -> postSticky(event), executor).whenComplete((result, e) -> {
+                if(e != null) ApexUtils.LOGGER.error("Error occurred while posting '{}' asynchronously", this, e);
+            });
         }
+
+        var table = this.table;
+        if(table.isEmpty()) return CompletableFuture.completedFuture(pass());
+
+        // never pooled, the event escapes the posting thread
+        var event = factory.create(eventArgs);
+        var keyedTable = keyed(table, event);
+
+        return CompletableFuture
+                .supplyAsync(() -> dispatchSequential(keyedTable, event), executor)
+                .thenCompose(result -> {
+                    if(!keyedTable.anyConcurrent || (shortCircuit && result.wasCancelled())) return CompletableFuture.completedFuture(result);
+                    return dispatchConcurrent(keyedTable, event);
+                })
+                .whenComplete((result, e) -> {
+                    if(e != null) ApexUtils.LOGGER.error("Error occurred while posting '{}' asynchronously", this, e);
+                    // recorded once both stages completed, as either may cancel the event
+                    else if(metrics.enabled) metrics.recordPost(result.wasCancelled());
+                });
+    }
+
+    @Override
+    public boolean enqueue(Object... eventArgs)
+    {
+        return queue().offer(this, eventArgs);
+    }
+
+    @Override
+    public int drain()
+    {
+        return queue().drain(this);
+    }
+
+    @Override
+    public int queuedCount()
+    {
+        return queue == null ? 0 : queue.size();
+    }
+
+    private EventQueue queue()
+    {
+        if(queue == null) throw new IllegalStateException("EventType was not registered with a queue: '%s'".formatted(this));
+        return queue;
+    }
+
+    @Override
+    public boolean coalesce(Object... eventArgs)
+    {
+        // never pooled, the event outlives this call
+        return coalescer().add(factory.create(eventArgs));
+    }
+
+    @Override
+    public BulkEventResult<E> flush()
+    {
+        return coalescer().flush(this);
+    }
+
+    @Override
+    public int pendingCount()
+    {
+        return coalescer == null ? 0 : coalescer.size();
+    }
+
+    private EventCoalescer<E> coalescer()
+    {
+        if(coalescer == null) throw new IllegalStateException("EventType was not registered with coalescing: '%s'".formatted(this));
+        return coalescer;
+    }
+
+    @Override
+    public Flow.Publisher<E> publisher(int bufferSize, OverflowPolicy overflow)
+    {
+        if(pool != null) throw new IllegalStateException("Pooled EventType can not be published: '%s'".formatted(this));
+        return new EventPublisher<>(this, executor, bufferSize, overflow);
+    }
+
+    @Override
+    public E newInstance(Object... args)
+    {
+        return factory.create(args);
+    }
+
+    @Override
+    public EventMetrics metrics()
+    {
+        return metrics;
     }
 
     @Override
@@ -109,6 +633,313 @@ final class EventTypeImpl<E extends Event> implements EventType<E>
         return "EventType[%s]".formatted(classType.getName());
     }
 
+    private EventResult<E> dispatch(DispatchTable<E> table, E event)
+    {
+        try
+        {
+            var cancelledBy = invoke(table, event);
+            return cancelledBy == NOT_CANCELLED ? success(event) : cancelled(event, cancelledBy);
+        }
+        catch(Throwable e)
+        {
+            if(pool != null) pool.discard(event);
+            ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
+            throw e;
+        }
+    }
+
+    // invokes all listeners in order, returning the index of the cancelling listener or NOT_CANCELLED
+    private int invoke(DispatchTable<E> table, E event)
+    {
+        table = keyed(table, event);
+        if(parallelPool != null && table.listeners.length > 1) return invokeParallel(table, event);
+        if(metrics.enabled) return invokeInstrumented(table, event);
+        if(exceptionPolicy != ExceptionPolicy.FAIL_FAST) return invokeIsolated(table, event);
+
+        var listeners = table.listeners;
+
+        if(shortCircuit)
+        {
+            for(var i = 0; i < listeners.length; i++)
+            {
+                listeners[i].accept(event);
+                if(wasCancelled(event)) return i;
+            }
+
+            return NOT_CANCELLED;
+        }
+        else if(table.anySkipCancelled)
+        {
+            var skipCancelled = table.skipCancelled;
+
+            for(var i = 0; i < listeners.length; i++)
+            {
+                if(skipCancelled[i] && wasCancelled(event)) continue;
+                listeners[i].accept(event);
+            }
+        }
+        else
+        {
+            var compiled = table.compiled();
+
+            if(compiled != null) compiled.dispatch(event);
+            else
+            {
+                for(var listener : listeners)
+                {
+                    listener.accept(event);
+                }
+            }
+        }
+
+        return wasCancelled(event) ? EventResult.UNKNOWN_LISTENER : NOT_CANCELLED;
+    }
+
+    // same as invoke, but isolates listener exceptions
+    // a single try block surrounds the loop, only re-entered to resume after a failing listener
+    private int invokeIsolated(DispatchTable<E> table, E event)
+    {
+        var listeners = table.listeners;
+        var i = 0;
+
+        while(i < listeners.length)
+        {
+            try
+            {
+                for(; i < listeners.length; i++)
+                {
+                    if(table.skipCancelled[i] && wasCancelled(event)) continue;
+                    listeners[i].accept(event);
+                    if(shortCircuit && wasCancelled(event)) return i;
+                }
+            }
+            catch(Exception e)
+            {
+                onListenerFailure(table, i, e);
+                i++;
+            }
+        }
+
+        return wasCancelled(event) ? EventResult.UNKNOWN_LISTENER : NOT_CANCELLED;
+    }
+
+    // same as invoke, but times every listener & records the outcome
+    private int invokeInstrumented(DispatchTable<E> table, E event)
+    {
+        var listeners = table.listeners;
+        var cancelledBy = NOT_CANCELLED;
+        var i = 0;
+
+        while(i < listeners.length && cancelledBy == NOT_CANCELLED)
+        {
+            try
+            {
+                for(; i < listeners.length; i++)
+                {
+                    if(table.skipCancelled[i] && wasCancelled(event)) continue;
+
+                    var start = System.nanoTime();
+                    listeners[i].accept(event);
+                    table.metrics[i].record(System.nanoTime() - start);
+
+                    if(shortCircuit && wasCancelled(event))
+                    {
+                        cancelledBy = i;
+                        break;
+                    }
+                }
+            }
+            catch(Exception e)
+            {
+                if(exceptionPolicy == ExceptionPolicy.FAIL_FAST) throw e;
+                onListenerFailure(table, i, e);
+                i++;
+            }
+        }
+
+        if(cancelledBy == NOT_CANCELLED && wasCancelled(event)) cancelledBy = EventResult.UNKNOWN_LISTENER;
+        metrics.recordPost(cancelledBy != NOT_CANCELLED);
+        return cancelledBy;
+    }
+
+    // listeners run in any order, so cancellation can only be attributed to an unknown listener
+    private int invokeParallel(DispatchTable<E> table, E event)
+    {
+        parallelPool.invoke(new ParallelDispatch<>(this, table, event, 0, table.listeners.length));
+
+        var cancelled = wasCancelled(event);
+        if(metrics.enabled) metrics.recordPost(cancelled);
+        return cancelled ? EventResult.UNKNOWN_LISTENER : NOT_CANCELLED;
+    }
+
+    // invokes a single listener from a parallel dispatch task
+    void invokeParallel(DispatchTable<E> table, int index, E event)
+    {
+        if(table.skipCancelled[index] && wasCancelled(event)) return;
+        invokeListener(table, index, event);
+    }
+
+    // invokes a single listener, for dispatch paths which can not resume the invoke loops
+    // isolating policies catch per listener here, as parallel & async tasks can not resume one another
+    private void invokeListener(DispatchTable<E> table, int index, E event)
+    {
+        try
+        {
+            if(metrics.enabled)
+            {
+                var start = System.nanoTime();
+                table.listeners[index].accept(event);
+                table.metrics[index].record(System.nanoTime() - start);
+            }
+            else
+                table.listeners[index].accept(event);
+        }
+        catch(Exception e)
+        {
+            if(exceptionPolicy == ExceptionPolicy.FAIL_FAST) throw e;
+            onListenerFailure(table, index, e);
+        }
+    }
+
+    private void onListenerFailure(DispatchTable<E> table, int index, Exception e)
+    {
+        var registration = table.registration(index);
+        var failures = registration.metrics().recordFailure();
+        ApexUtils.LOGGER.error("Listener '{}' failed while posting '{}'", registration.listener(), this, e);
+
+        // only once, posts already holding the previous table may still invoke the listener
+        if(exceptionPolicy == ExceptionPolicy.DISABLE && failures == maxFailures)
+        {
+            ApexUtils.LOGGER.warn("Disabling listener '{}' of '{}' after {} failures", registration.listener(), this, failures);
+            disable(registration);
+        }
+    }
+
+    // removes the registration from whichever table owns it, this EventType or a super type
+    private void disable(DispatchTable.Registration<E> registration)
+    {
+        synchronized(lock)
+        {
+            var remaining = DispatchTable.remove(own, registration);
+
+            if(remaining != own)
+            {
+                own = remaining;
+                table = dispatchTable();
+                return;
+            }
+        }
+
+        // outside of our lock, EventHierarchy locks are always acquired first
+        EventHierarchy.removeRegistration(registration);
+    }
+
+    // invokes each listener for every event before moving onto the next listener
+    private BulkEventResult<E> dispatchListenerMajor(DispatchTable<E> table, List<E> events)
+    {
+        try
+        {
+            var listeners = table.listeners;
+            var skipCancelled = table.skipCancelled;
+
+            for(var i = 0; i < listeners.length; i++)
+            {
+                var skip = shortCircuit || skipCancelled[i];
+
+                for(var event : events)
+                {
+                    if(skip && wasCancelled(event)) continue;
+                    invokeListener(table, i, event);
+                }
+            }
+
+            var cancelled = new BitSet();
+
+            if(cancellable)
+            {
+                for(var i = 0; i < events.size(); i++)
+                {
+                    if(wasCancelled(events.get(i))) cancelled.set(i);
+                }
+            }
+
+            if(metrics.enabled)
+            {
+                for(var i = 0; i < events.size(); i++)
+                {
+                    metrics.recordPost(cancelled.get(i));
+                }
+            }
+
+            return new BulkEventResultImpl<>(this, events.size(), cancelled);
+        }
+        catch(Throwable e)
+        {
+            ApexUtils.LOGGER.error("Error occurred while posting '{}'", this);
+            throw e;
+        }
+    }
+
+    // invokes all none concurrent listeners in order, on the executor
+    private EventResult<E> dispatchSequential(DispatchTable<E> table, E event)
+    {
+        var listeners = table.listeners;
+
+        for(var i = 0; i < listeners.length; i++)
+        {
+            if(table.concurrent[i] || (table.skipCancelled[i] && wasCancelled(event))) continue;
+            invokeListener(table, i, event);
+            if(shortCircuit && wasCancelled(event)) return EventResult.cancelled(this, event, i);
+        }
+
+        return wasCancelled(event) ? EventResult.cancelled(this, event) : EventResult.success(this, event);
+    }
+
+    // invokes all concurrent listeners as separate tasks, completing once they all have
+    private CompletableFuture<EventResult<E>> dispatchConcurrent(DispatchTable<E> table, E event)
+    {
+        var listeners = table.listeners;
+        var futures = new ArrayList<CompletableFuture<Void>>();
+
+        for(var i = 0; i < listeners.length; i++)
+        {
+            if(!table.concurrent[i] || (table.skipCancelled[i] && wasCancelled(event))) continue;
+            var index = i;
+            futures.add(CompletableFuture.runAsync(() -> invokeListener(table, index, event), executor));
+        }
+
+        return CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> wasCancelled(event) ? EventResult.cancelled(this, event) : EventResult.success(this, event));
+    }
+
+    private DispatchTable<E> keyed(DispatchTable<E> table, E event)
+    {
+        return keyExtractor == null || !table.isKeyed() ? table : table.forKey(keyExtractor.apply(event));
+    }
+
+    private EventResult<E> pass()
+    {
+        if(metrics.enabled) metrics.recordPass();
+        return passResult;
+    }
+
+    private BulkEventResult<E> passAll(int size)
+    {
+        if(metrics.enabled) metrics.recordPasses(size);
+        return new BulkEventResultImpl<>(this, size, null);
+    }
+
+    private EventResult<E> success(E event)
+    {
+        return pool == null ? EventResult.success(this, event) : pool.release(event);
+    }
+
+    private EventResult<E> cancelled(E event, int cancelledBy)
+    {
+        return pool == null ? EventResult.cancelled(this, event, cancelledBy) : pool.releaseCancelled(event, cancelledBy);
+    }
+
     private static <E extends Event> boolean wasCancelled(E event)
     {
         return event instanceof CancellableEvent cancellable && cancellable.wasCancelled();
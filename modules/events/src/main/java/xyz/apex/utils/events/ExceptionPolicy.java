@@ -0,0 +1,22 @@
+package xyz.apex.utils.events;
+
+/**
+ * Policy used when a listener throws while an Event is being posted.
+ *
+ * @see EventTypeBuilder#exceptionPolicy(ExceptionPolicy)
+ */
+public enum ExceptionPolicy
+{
+    /**
+     * The exception is logged &#38; rethrown from {@link EventType#post(Object...)}, remaining listeners are not invoked.
+     */
+    FAIL_FAST,
+    /**
+     * The exception is logged &#38; the remaining listeners are invoked as normal, for every kind of post including batched &#38; asynchronous posts.
+     */
+    ISOLATE,
+    /**
+     * Same as {@link #ISOLATE}, but listeners are unregistered once they have failed a set number of times.
+     */
+    DISABLE
+}
@@ -0,0 +1,112 @@
+package xyz.apex.utils.events;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+
+/**
+ * A ListenerGroup owns a set of listeners, which are all unregistered at once when the group is closed.
+ * <p>
+ * Closing a group rebuilds the dispatch table of each affected EventType only once,
+ * no matter how many listeners the group registered onto it, registering listeners in a {@link #batch(Consumer) batch} does the same.
+ * Mainly used to tear down &#38; hot reload entire subsystems or plugins.
+ */
+public sealed interface ListenerGroup extends AutoCloseable permits ListenerGroupImpl
+{
+    /**
+     * @return Name of this group, used for debugging.
+     */
+    String name();
+
+    /**
+     * Registers a new listener owned by this group, with {@link EventPriority#NORMAL normal} priority.
+     *
+     * @param eventType EventType to register the listener onto.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @param <E> Type of Event to listen for.
+     */
+    default <E extends Event> void addListener(EventType<E> eventType, Consumer<E> listener)
+    {
+        addListener(eventType, EventPriority.NORMAL, false, listener);
+    }
+
+    /**
+     * Registers a new listener owned by this group.
+     *
+     * @param eventType EventType to register the listener onto.
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked when event of given EventType is posted.
+     * @param <E> Type of Event to listen for.
+     * @see EventType#addListener(EventPriority, boolean, Consumer)
+     */
+    <E extends Event> void addListener(EventType<E> eventType, EventPriority priority, boolean skipCancelled, Consumer<E> listener);
+
+    /**
+     * Registers a new super type listener owned by this group.
+     *
+     * @param eventType Super type or interface of the Events to listen for.
+     * @param priority Priority of the listener, higher priority listeners are invoked first.
+     * @param skipCancelled True if the listener should not be invoked for cancelled Events.
+     * @param listener Listener to be invoked when any matching event is posted.
+     * @param <T> Super type of the Events to listen for.
+     * @see EventType#addHierarchyListener(Class, EventPriority, boolean, Consumer)
+     */
+    <T extends Event> void addHierarchyListener(Class<T> eventType, EventPriority priority, boolean skipCancelled, Consumer<T> listener);
+
+    /**
+     * Registers listeners in a single batch, every listener the given action adds to this group is committed once it returns.
+     * <p>
+     * Adding listeners one by one rebuilds the dispatch table of the EventType on every call,
+     * a batch rebuilds the table of each affected EventType only once, no matter how many listeners it registered onto it.
+     * Listeners added by the action are not invoked until the batch is committed, listeners added before the action throws are still committed.
+     *
+     * @param registrations Action adding listeners to the given group.
+     */
+    void batch(Consumer<? super ListenerGroup> registrations);
+
+    /**
+     * Registers every instance method of the given object annotated with {@link Subscribe} as a listener owned by this group.
+     * <p>
+     * Methods are bound through {@link java.lang.invoke.LambdaMetafactory}, so are invoked as fast as a hand written lambda.
+     * Only methods declared directly by the object's class are scanned, the scan is cached per class.
+     * All methods are registered as a single {@link #batch(Consumer) batch}.
+     *
+     * @param lookup Lookup with access to the object's class, usually {@code MethodHandles.lookup()}.
+     * @param instance Object to register the annotated methods of.
+     */
+    default void subscribe(MethodHandles.Lookup lookup, Object instance)
+    {
+        EventSubscribers.subscribe(this, lookup, instance.getClass(), instance);
+    }
+
+    /**
+     * Registers every static method of the given class annotated with {@link Subscribe} as a listener owned by this group.
+     *
+     * @param lookup Lookup with access to the class, usually {@code MethodHandles.lookup()}.
+     * @param type Class to register the annotated methods of.
+     * @see #subscribe(MethodHandles.Lookup, Object)
+     */
+    default void subscribeStatic(MethodHandles.Lookup lookup, Class<?> type)
+    {
+        EventSubscribers.subscribe(this, lookup, type, null);
+    }
+
+    /**
+     * Unregisters every listener owned by this group.
+     * <p>
+     * The group may continue to be used afterwards.
+     */
+    @Override
+    void close();
+
+    /**
+     * Constructs a new ListenerGroup.
+     *
+     * @param name Name of the group, used for debugging.
+     * @return Newly constructed ListenerGroup.
+     */
+    static ListenerGroup create(String name)
+    {
+        return new ListenerGroupImpl(name);
+    }
+}
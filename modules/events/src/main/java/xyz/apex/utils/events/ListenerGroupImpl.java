@@ -0,0 +1,143 @@
+package xyz.apex.utils.events;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+final class ListenerGroupImpl implements ListenerGroup
+{
+    private final String name;
+    // guards registration against a concurrent close, so no listener outlives the group
+    private final Object lock = new Object();
+    private final Set<EventTypeImpl<?>> eventTypes = Sets.newHashSet();
+    private boolean ownsHierarchyListeners = false;
+    // listeners added while a batch is open, committed once it closes, guarded by lock
+    @Nullable private Map<EventTypeImpl<?>, List<DispatchTable.Registration<?>>> pending = null;
+    @Nullable private Map<Class<?>, List<DispatchTable.Registration<?>>> pendingHierarchy = null;
+
+    ListenerGroupImpl(String name)
+    {
+        this.name = name;
+    }
+
+    @Override
+    public String name()
+    {
+        return name;
+    }
+
+    @Override
+    public <E extends Event> void addListener(EventType<E> eventType, EventPriority priority, boolean skipCancelled, Consumer<E> listener)
+    {
+        var impl = (EventTypeImpl<E>) eventType;
+
+        synchronized(lock)
+        {
+            eventTypes.add(impl);
+
+            if(pending == null) impl.addListener(priority, skipCancelled, false, listener, this, null);
+            else pending.computeIfAbsent(impl, key -> Lists.newArrayList()).add(impl.registration(priority, skipCancelled, false, listener, this, null));
+        }
+    }
+
+    @Override
+    public <T extends Event> void addHierarchyListener(Class<T> eventType, EventPriority priority, boolean skipCancelled, Consumer<T> listener)
+    {
+        synchronized(lock)
+        {
+            ownsHierarchyListeners = true;
+            var registration = new DispatchTable.Registration<>(listener, priority, skipCancelled, false, this);
+
+            if(pendingHierarchy == null) EventHierarchy.addListener(eventType, registration);
+            else pendingHierarchy.computeIfAbsent(eventType, key -> Lists.newArrayList()).add(registration);
+        }
+    }
+
+    @Override
+    public void batch(Consumer<? super ListenerGroup> registrations)
+    {
+        synchronized(lock)
+        {
+            // nested batches are committed along with the outermost one
+            if(pending != null)
+            {
+                registrations.accept(this);
+                return;
+            }
+
+            pending = Maps.newLinkedHashMap();
+            pendingHierarchy = Maps.newLinkedHashMap();
+
+            try
+            {
+                registrations.accept(this);
+            }
+            finally
+            {
+                // listeners added before a failure stay registered, same as adding them one by one
+                var added = pending;
+                var addedHierarchy = pendingHierarchy;
+                pending = null;
+                pendingHierarchy = null;
+
+                EventHierarchy.addListeners(addedHierarchy);
+                RuntimeException failure = null;
+
+                // every EventType is committed, even if a sticky listener failed fast on another
+                for(var entry : added.entrySet())
+                {
+                    try
+                    {
+                        commit(entry.getKey(), entry.getValue());
+                    }
+                    catch(RuntimeException e)
+                    {
+                        if(failure == null) failure = e;
+                        else failure.addSuppressed(e);
+                    }
+                }
+
+                if(failure != null) throw failure;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> void commit(EventTypeImpl<E> eventType, List<DispatchTable.Registration<?>> registrations)
+    {
+        // only ever built by the EventType itself, so every registration is of its Event type
+        eventType.addListeners((List<DispatchTable.Registration<E>>) (List<?>) registrations);
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized(lock)
+        {
+            for(var eventType : eventTypes)
+            {
+                eventType.removeOwned(this);
+            }
+
+            eventTypes.clear();
+
+            if(ownsHierarchyListeners)
+            {
+                ownsHierarchyListeners = false;
+                EventHierarchy.removeOwned(this);
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ListenerGroup[%s]".formatted(name);
+    }
+}
@@ -0,0 +1,39 @@
+package xyz.apex.utils.events;
+
+/**
+ * Profiling metrics for a single Event listener.
+ *
+ * @see EventMetrics#listeners()
+ */
+public sealed interface ListenerMetrics permits ListenerMetricsImpl
+{
+    /**
+     * @return Description of the listener, as given by its {@link Object#toString()}.
+     */
+    String listener();
+
+    /**
+     * @return Number of times the listener was invoked while metrics were enabled.
+     */
+    long invocations();
+
+    /**
+     * @return Cumulative time spent invoking the listener, in nanoseconds.
+     */
+    long totalNanos();
+
+    /**
+     * @return Longest single invocation of the listener, in nanoseconds.
+     */
+    long maxNanos();
+
+    /**
+     * Returns the number of times the listener threw while an Event was being posted.
+     * <p>
+     * Failures are recorded even while metrics are disabled, unless the EventType {@link ExceptionPolicy#FAIL_FAST fails fast}.
+     * Unlike all other values, failures are not cleared by {@link EventMetrics#reset()}.
+     *
+     * @return Number of times the listener threw.
+     */
+    int failures();
+}
@@ -0,0 +1,76 @@
+package xyz.apex.utils.events;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class ListenerMetricsImpl implements ListenerMetrics
+{
+    private final Object listener;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    // always recorded & never reset, used by ExceptionPolicy.DISABLE
+    private final AtomicInteger failures = new AtomicInteger();
+
+    ListenerMetricsImpl(Object listener)
+    {
+        this.listener = listener;
+    }
+
+    void record(long nanos)
+    {
+        invocations.increment();
+        totalNanos.add(nanos);
+        // only contend on the max when it actually changes
+        if(nanos > maxNanos.get()) maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    int recordFailure()
+    {
+        return failures.incrementAndGet();
+    }
+
+    void reset()
+    {
+        invocations.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+    }
+
+    @Override
+    public String listener()
+    {
+        return listener.toString();
+    }
+
+    @Override
+    public long invocations()
+    {
+        return invocations.sum();
+    }
+
+    @Override
+    public long totalNanos()
+    {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public long maxNanos()
+    {
+        return maxNanos.get();
+    }
+
+    @Override
+    public int failures()
+    {
+        return failures.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "%s[invocations=%d, total=%dns, max=%dns, failures=%d]".formatted(listener(), invocations(), totalNanos(), maxNanos(), failures());
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.apex.utils.events;
+
+/**
+ * Policy used when an Event is posted while a subscribers buffer is full.
+ *
+ * @see EventType#publisher(int, OverflowPolicy)
+ */
+public enum OverflowPolicy
+{
+    /**
+     * The oldest buffered Event is dropped to make room for the posted Event.
+     */
+    DROP_OLDEST,
+    /**
+     * The posted Event is dropped.
+     */
+    DROP_NEWEST,
+    /**
+     * The posting thread waits until the subscriber has consumed an Event.
+     * <p>
+     * The only policy allowing a slow subscriber to stall posting.
+     */
+    BLOCK
+}
@@ -0,0 +1,35 @@
+package xyz.apex.utils.events;
+
+import java.util.concurrent.RecursiveAction;
+
+// splits the listener array in halves until each task invokes a single listener
+final class ParallelDispatch<E extends Event> extends RecursiveAction
+{
+    private final EventTypeImpl<E> eventType;
+    private final DispatchTable<E> table;
+    private final E event;
+    private final int from;
+    private final int to;
+
+    ParallelDispatch(EventTypeImpl<E> eventType, DispatchTable<E> table, E event, int from, int to)
+    {
+        this.eventType = eventType;
+        this.table = table;
+        this.event = event;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if(to - from == 1)
+        {
+            eventType.invokeParallel(table, from, event);
+            return;
+        }
+
+        var mid = (from + to) >>> 1;
+        invokeAll(new ParallelDispatch<>(eventType, table, event, from, mid), new ParallelDispatch<>(eventType, table, event, mid, to));
+    }
+}
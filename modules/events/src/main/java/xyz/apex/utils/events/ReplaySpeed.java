@@ -0,0 +1,18 @@
+package xyz.apex.utils.events;
+
+/**
+ * Speed an {@link EventRecorder event log} is replayed at.
+ *
+ * @see EventReplayer#replay(java.io.InputStream, ReplaySpeed)
+ */
+public enum ReplaySpeed
+{
+    /**
+     * Events are posted with the same timing they were originally posted with.
+     */
+    ORIGINAL,
+    /**
+     * Events are posted back to back, as fast as listeners allow.
+     */
+    MAXIMUM
+}
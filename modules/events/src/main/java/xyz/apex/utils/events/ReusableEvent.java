@@ -0,0 +1,95 @@
+package xyz.apex.utils.events;
+
+/**
+ * Interface used to mark Events as being reusable.
+ * <p>
+ * Pooled EventTypes construct a single instance of the Event per thread,
+ * which is reset using the given args before each post, rather than constructing a new instance every post.
+ * <p>
+ * Implementations must override the {@code reset} overload matching the number of args the Event takes,
+ * pooled posts invoke it directly so no args array is ever allocated. Events taking more than 4 args override {@link #reset(Object[])} instead.
+ * The cancelled state of {@link SimpleCancelableEvent SimpleCancelableEvents} is reset automatically.
+ *
+ * @see EventTypeBuilder#pooled()
+ */
+public interface ReusableEvent extends Event
+{
+    /**
+     * Resets this Event using an array of args, used by batched posts &#38; posts taking more than 4 args.
+     * <p>
+     * Defaults to invoking the {@code reset} overload matching the number of args.
+     *
+     * @param args Args used to reset this Event.
+     */
+    default void reset(Object[] args)
+    {
+        switch(args.length)
+        {
+            case 0 -> reset();
+            case 1 -> reset(args[0]);
+            case 2 -> reset(args[0], args[1]);
+            case 3 -> reset(args[0], args[1], args[2]);
+            case 4 -> reset(args[0], args[1], args[2], args[3]);
+            default -> throw unsupported(args.length);
+        }
+    }
+
+    /**
+     * Resets this Event, for Events taking no args.
+     */
+    default void reset()
+    {
+        throw unsupported(0);
+    }
+
+    /**
+     * Resets this Event, for Events taking 1 arg.
+     *
+     * @param arg0 First arg used to reset this Event.
+     */
+    default void reset(Object arg0)
+    {
+        throw unsupported(1);
+    }
+
+    /**
+     * Resets this Event, for Events taking 2 args.
+     *
+     * @param arg0 First arg used to reset this Event.
+     * @param arg1 Second arg used to reset this Event.
+     */
+    default void reset(Object arg0, Object arg1)
+    {
+        throw unsupported(2);
+    }
+
+    /**
+     * Resets this Event, for Events taking 3 args.
+     *
+     * @param arg0 First arg used to reset this Event.
+     * @param arg1 Second arg used to reset this Event.
+     * @param arg2 Third arg used to reset this Event.
+     */
+    default void reset(Object arg0, Object arg1, Object arg2)
+    {
+        throw unsupported(3);
+    }
+
+    /**
+     * Resets this Event, for Events taking 4 args.
+     *
+     * @param arg0 First arg used to reset this Event.
+     * @param arg1 Second arg used to reset this Event.
+     * @param arg2 Third arg used to reset this Event.
+     * @param arg3 Fourth arg used to reset this Event.
+     */
+    default void reset(Object arg0, Object arg1, Object arg2, Object arg3)
+    {
+        throw unsupported(4);
+    }
+
+    private UnsupportedOperationException unsupported(int argCount)
+    {
+        return new UnsupportedOperationException("Reusable event can not be reset with %d args: '%s'".formatted(argCount, getClass().getName()));
+    }
+}
@@ -2,7 +2,8 @@ package xyz.apex.utils.events;
 
 public class SimpleCancelableEvent implements CancellableEvent
 {
-    private boolean cancelled = false;
+    // volatile so cancellation is visible across listeners invoked in parallel
+    private volatile boolean cancelled = false;
 
     @Override
     public final void cancel()
@@ -15,4 +16,10 @@ public class SimpleCancelableEvent implements CancellableEvent
     {
         return cancelled;
     }
+
+    // used by pooled event types to reset reused instances
+    final void resetCancelled()
+    {
+        cancelled = false;
+    }
 }
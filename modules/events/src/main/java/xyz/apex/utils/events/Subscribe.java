@@ -0,0 +1,27 @@
+package xyz.apex.utils.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as an Event listener, to be registered using {@link ListenerGroup#subscribe(java.lang.invoke.MethodHandles.Lookup, Object)}.
+ * <p>
+ * Annotated methods must return void &#38; take a single parameter, the Event to listen for.
+ * If no EventType is registered for the parameter type, the method listens for all Events extending or implementing it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subscribe
+{
+    /**
+     * @return Priority of the listener, higher priority listeners are invoked first.
+     */
+    EventPriority priority() default EventPriority.NORMAL;
+
+    /**
+     * @return True if the listener should not be invoked for cancelled Events.
+     */
+    boolean skipCancelled() default false;
+}
@@ -0,0 +1,65 @@
+package xyz.apex.utils.events;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// listener holding its owner weakly, becoming a no-op once the owner was collected
+// stale listeners are dropped from dispatch tables as they are rebuilt, never while posting
+final class WeakListener<O, E extends Event> implements Consumer<E>
+{
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    private final OwnerReference owner;
+    private final BiConsumer<O, E> listener;
+
+    WeakListener(EventTypeImpl<E> eventType, O owner, BiConsumer<O, E> listener)
+    {
+        this.owner = new OwnerReference(owner, eventType);
+        this.listener = listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void accept(E event)
+    {
+        var owner = (O) this.owner.get();
+        if(owner != null) listener.accept(owner, event);
+    }
+
+    boolean isStale()
+    {
+        return owner.get() == null;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "WeakListener[%s]".formatted(listener);
+    }
+
+    // purges every EventType which had a weak listener owner collected since the last call
+    // invoked on registration changes, so stale listeners are dropped even from EventTypes which are never modified
+    static void expungeStale()
+    {
+        OwnerReference reference;
+
+        while((reference = (OwnerReference) QUEUE.poll()) != null)
+        {
+            reference.eventType.purgeStale();
+        }
+    }
+
+    private static final class OwnerReference extends WeakReference<Object>
+    {
+        private final EventTypeImpl<?> eventType;
+
+        private OwnerReference(Object owner, EventTypeImpl<?> eventType)
+        {
+            super(owner, QUEUE);
+
+            this.eventType = eventType;
+        }
+    }
+}
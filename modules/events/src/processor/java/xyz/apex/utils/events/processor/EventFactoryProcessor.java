@@ -0,0 +1,161 @@
+package xyz.apex.utils.events.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Generates typed {@code EventFactory} classes for constructors annotated with {@code @EventConstructor}.
+ * <p>
+ * Registered as a service, so is picked up automatically when the events module is on the annotation processor path.
+ */
+@SupportedAnnotationTypes(EventFactoryProcessor.EVENT_CONSTRUCTOR)
+public final class EventFactoryProcessor extends AbstractProcessor
+{
+    static final String EVENT_CONSTRUCTOR = "xyz.apex.utils.events.EventConstructor";
+    private static final String EVENT = "xyz.apex.utils.events.Event";
+    private static final int MAX_ARITY = 4;
+
+    // events already generated by previous rounds
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for(var annotation : annotations)
+        {
+            for(var element : roundEnv.getElementsAnnotatedWith(annotation))
+            {
+                if(element.getKind() == ElementKind.CONSTRUCTOR && validate((ExecutableElement) element)) generate((ExecutableElement) element);
+            }
+        }
+
+        return true;
+    }
+
+    private boolean validate(ExecutableElement constructor)
+    {
+        var event = (TypeElement) constructor.getEnclosingElement();
+        var eventType = processingEnv.getElementUtils().getTypeElement(EVENT);
+
+        if(eventType != null && !processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(event.asType()), eventType.asType()))
+            return error(constructor, "@EventConstructor must be placed on a constructor of an Event");
+        if(constructor.getModifiers().contains(Modifier.PRIVATE))
+            return error(constructor, "@EventConstructor must not be placed on a private constructor");
+        if(constructor.getParameters().size() > MAX_ARITY)
+            return error(constructor, "@EventConstructor must be placed on a constructor taking at most %d parameters".formatted(MAX_ARITY));
+        if(event.getModifiers().contains(Modifier.ABSTRACT))
+            return error(constructor, "@EventConstructor must not be placed on a constructor of an abstract class");
+        if(!event.getTypeParameters().isEmpty())
+            return error(constructor, "@EventConstructor must not be placed on a constructor of a generic class");
+
+        for(Element enclosing = event; enclosing.getKind() != ElementKind.PACKAGE; enclosing = enclosing.getEnclosingElement())
+        {
+            var type = (TypeElement) enclosing;
+
+            if(type.getModifiers().contains(Modifier.PRIVATE))
+                return error(constructor, "@EventConstructor must not be placed on a constructor of a private class");
+            if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+                return error(constructor, "@EventConstructor must not be placed on a constructor of an inner class");
+        }
+
+        if(!generated.add(event.getQualifiedName().toString()))
+            return error(constructor, "@EventConstructor must only be placed on a single constructor per Event");
+
+        return true;
+    }
+
+    private void generate(ExecutableElement constructor)
+    {
+        var event = (TypeElement) constructor.getEnclosingElement();
+        var packageName = packageOf(event).getQualifiedName().toString();
+        var eventName = event.getQualifiedName().toString();
+        // nested events are flattened, Outer.Inner -> Outer_InnerFactory
+        var factoryName = (packageName.isEmpty() ? eventName : eventName.substring(packageName.length() + 1)).replace('.', '_') + "Factory";
+
+        var argTypes = new StringJoiner(", ");
+        constructor.getParameters().forEach(parameter -> argTypes.add(classLiteral(parameter.asType())));
+        var factoryArgs = constructor.getParameters().isEmpty() ? "" : argTypes + ", ";
+
+        try(var out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? factoryName : packageName + '.' + factoryName, event).openWriter()))
+        {
+            if(!packageName.isEmpty())
+            {
+                out.println("package " + packageName + ';');
+                out.println();
+            }
+
+            out.println("/**");
+            out.println(" * Typed factory &#38; registration for {@link " + eventName + "}, generated from its {@code @EventConstructor}.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + EventFactoryProcessor.class.getName() + "\")");
+            out.println("public final class " + factoryName);
+            out.println('{');
+            out.println("    public static final xyz.apex.utils.events.EventFactory<" + eventName + "> FACTORY = xyz.apex.utils.events.EventFactory.of(" + factoryArgs + eventName + "::new);");
+            out.println();
+            out.println("    private " + factoryName + "()");
+            out.println("    {");
+            out.println("    }");
+            out.println();
+            out.println("    public static xyz.apex.utils.events.EventTypeBuilder<" + eventName + "> builder()");
+            out.println("    {");
+            out.println("        return xyz.apex.utils.events.EventType.builder(" + eventName + ".class).factory(FACTORY);");
+            out.println("    }");
+            out.println();
+            out.println("    public static xyz.apex.utils.events.EventType<" + eventName + "> register()");
+            out.println("    {");
+            out.println("        return builder().register();");
+            out.println("    }");
+            out.println('}');
+        }
+        catch(IOException e)
+        {
+            error(constructor, "Failed to generate EventFactory: " + e.getMessage());
+        }
+    }
+
+    // boxed & erased, EventFactory casts each arg using its class
+    private String classLiteral(TypeMirror type)
+    {
+        var types = processingEnv.getTypeUtils();
+        if(type.getKind().isPrimitive()) type = types.boxedClass(types.getPrimitiveType(type.getKind())).asType();
+        return types.erasure(type) + ".class";
+    }
+
+    private static PackageElement packageOf(Element element)
+    {
+        while(element.getKind() != ElementKind.PACKAGE)
+        {
+            element = element.getEnclosingElement();
+        }
+
+        return (PackageElement) element;
+    }
+
+    private boolean error(Element element, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package xyz.apex.utils.events;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -7,6 +8,21 @@ public interface EventTypeHack
 {
     static <E extends Event> List<Consumer<E>> listeners(EventType<E> eventType)
     {
-        return ((EventTypeImpl<E>) eventType).listeners;
+        return Arrays.asList(((EventTypeImpl<E>) eventType).table.listeners);
+    }
+
+    static Object table(EventType<?> eventType)
+    {
+        return ((EventTypeImpl<?>) eventType).table;
+    }
+
+    static Object keyedTable(EventType<?> eventType, Object key)
+    {
+        return ((EventTypeImpl<?>) eventType).table.forKey(key);
+    }
+
+    static boolean isCompiled(EventType<?> eventType)
+    {
+        return ((EventTypeImpl<?>) eventType).table.isCompiled();
     }
 }
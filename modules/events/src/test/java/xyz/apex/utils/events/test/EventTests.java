@@ -2,9 +2,37 @@ package xyz.apex.utils.events.test;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import xyz.apex.utils.events.CancellableEvent;
+import xyz.apex.utils.events.EventCodec;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.EventRecorder;
+import xyz.apex.utils.events.EventReplayer;
+import xyz.apex.utils.events.EventResult;
+import xyz.apex.utils.events.EventType;
 import xyz.apex.utils.events.EventTypeHack;
+import xyz.apex.utils.events.ListenerGroup;
+import xyz.apex.utils.events.OverflowPolicy;
+import xyz.apex.utils.events.ReplaySpeed;
 import xyz.apex.utils.events.SimpleCancelableEvent;
 
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 public final class EventTests
@@ -46,4 +74,868 @@ public final class EventTests
         var result1 = TestCancelableEvent.EVENT_TYPE.post();
         Assertions.assertTrue(result1::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
     }
+
+    @Test
+    void modifiedWhilePosting()
+    {
+        var counter = new AtomicInteger();
+        Consumer<TestEvent> added = event -> counter.incrementAndGet();
+        Consumer<TestEvent> listener = new Consumer<>()
+        {
+            @Override
+            public void accept(TestEvent event)
+            {
+                TestEvent.EVENT_TYPE.removeListener(this);
+                TestEvent.EVENT_TYPE.addListener(added);
+            }
+        };
+
+        TestEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertDoesNotThrow(() -> TestEvent.EVENT_TYPE.post(), "Modifying listeners while posting should not throw");
+        Assertions.assertEquals(0, counter.get(), "Listener added while posting should not be invoked until the next post");
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, counter.get(), "Listener added while posting was not invoked on the next post");
+        TestEvent.EVENT_TYPE.removeListener(added);
+    }
+
+    @Test
+    void factories()
+    {
+        var event = TestArgsEvent.EVENT_TYPE.newInstance("test", 1);
+        Assertions.assertEquals("test", event.name, "Constructor factory passed wrong arg");
+        Assertions.assertEquals(1, event.value, "Constructor factory passed wrong arg");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestArgsEvent.EVENT_TYPE.newInstance("test"), "Constructor factory accepted wrong number of args");
+        Assertions.assertThrows(ClassCastException.class, () -> TestArgsEvent.EVENT_TYPE.newInstance(1, 1), "Constructor factory wrapped a bad arg failure");
+
+        var factory = EventFactory.of(String.class, Integer.class, TestArgsEvent::new);
+        Assertions.assertEquals(2, factory.arity(), "Factory arity does not match its function");
+        Assertions.assertEquals(2, factory.create("test", 2).value, "Factory passed wrong arg");
+        Assertions.assertEquals(3, factory.create(new Object[] { "test", 3 }).value, "Factory passed wrong arg from args array");
+        Assertions.assertThrows(IllegalArgumentException.class, factory::create, "Factory accepted wrong number of args");
+
+        Consumer<TestArgsEvent> listener = e -> Assertions.assertEquals(4, e.value, "Posted event constructed with wrong args");
+        TestArgsEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertTrue(TestArgsEvent.EVENT_TYPE.post("test", 4)::wasSuccess, "Event failed to post, expected success");
+        TestArgsEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void pooled()
+    {
+        var values = new int[2];
+        Consumer<TestPooledEvent> listener = event -> {
+            values[event.value] = event.value + 1;
+            if(event.value == 1) event.cancel();
+        };
+
+        TestPooledEvent.EVENT_TYPE.addListener(listener);
+
+        var result = TestPooledEvent.EVENT_TYPE.post(0);
+        Assertions.assertTrue(result::wasSuccess, "Pooled event failed to post, expected success");
+        var result1 = TestPooledEvent.EVENT_TYPE.post(1);
+        Assertions.assertTrue(result1::wasCancelled, "Pooled event was not cancelled, was expected to have been");
+        Assertions.assertEquals(2, values[1], "Pooled event was not reset with new args");
+        var result2 = TestPooledEvent.EVENT_TYPE.post(0);
+        Assertions.assertTrue(result2::wasSuccess, "Pooled event kept cancelled state from previous post");
+
+        Assertions.assertSame(result, result2, "Pooled event results were not reused");
+        Assertions.assertThrows(NullPointerException.class, () -> TestPooledEvent.EVENT_TYPE.post((Object) null), "Pooled event reset accepted invalid args");
+        Assertions.assertSame(result, TestPooledEvent.EVENT_TYPE.post(0), "Pooled event was not reused after a failed reset");
+        result.ifSuccess(event -> result1.ifCancelled(event1 -> Assertions.assertSame(event, event1, "Pooled event instance was not reused")));
+        Assertions.assertSame(TestEvent.EVENT_TYPE.post(), TestEvent.EVENT_TYPE.post(), "Pass results were not reused");
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.builder(TestEvent.class).pooled().register(), "None reusable event was allowed to be pooled");
+
+        TestPooledEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void priorities()
+    {
+        var order = new StringBuilder();
+        Consumer<TestCancelableEvent> low = event -> order.append("low,");
+        Consumer<TestCancelableEvent> normal = event -> order.append("normal,");
+        Consumer<TestCancelableEvent> skipped = event -> order.append("skipped,");
+        Consumer<TestCancelableEvent> highest = event -> {
+            order.append("highest,");
+            event.cancel();
+        };
+
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.LOW, low);
+        TestCancelableEvent.EVENT_TYPE.addListener(normal);
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.HIGH, true, skipped);
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.HIGHEST, highest);
+
+        var result = TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertTrue(result::wasCancelled, "Cancelable event was not cancelled, was expected to have been");
+        Assertions.assertEquals("highest,normal,low,", order.toString(), "Listeners were invoked in the wrong order");
+
+        TestCancelableEvent.EVENT_TYPE.removeListener(low);
+        TestCancelableEvent.EVENT_TYPE.removeListener(normal);
+        TestCancelableEvent.EVENT_TYPE.removeListener(skipped);
+        TestCancelableEvent.EVENT_TYPE.removeListener(highest);
+    }
+
+    @Test
+    void shortCircuit()
+    {
+        var counter = new AtomicInteger();
+        Consumer<TestShortCircuitEvent> first = event -> counter.incrementAndGet();
+        Consumer<TestShortCircuitEvent> cancel = event -> event.cancel();
+        Consumer<TestShortCircuitEvent> last = event -> counter.incrementAndGet();
+
+        TestShortCircuitEvent.EVENT_TYPE.addListener(first);
+        TestShortCircuitEvent.EVENT_TYPE.addListener(cancel);
+        TestShortCircuitEvent.EVENT_TYPE.addListener(last);
+
+        var result = TestShortCircuitEvent.EVENT_TYPE.post();
+        Assertions.assertTrue(result::wasCancelled, "Short circuit event was not cancelled, was expected to have been");
+        Assertions.assertEquals(1, result.cancelledBy(), "Short circuit event reported wrong cancelling listener");
+        Assertions.assertEquals(1, counter.get(), "Listener was invoked after the event was cancelled");
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.builder(TestEvent.class).shortCircuit().register(), "None cancelable event was allowed to short circuit");
+
+        TestShortCircuitEvent.EVENT_TYPE.removeListener(first);
+        TestShortCircuitEvent.EVENT_TYPE.removeListener(cancel);
+        TestShortCircuitEvent.EVENT_TYPE.removeListener(last);
+    }
+
+    @Test
+    void async()
+    {
+        var caller = Thread.currentThread();
+        var order = new StringBuffer();
+        Consumer<TestCancelableEvent> sequential = event -> order.append("sequential,");
+        Consumer<TestCancelableEvent> concurrent = event -> {
+            Assertions.assertNotSame(caller, Thread.currentThread(), "Async listener was invoked on the posting thread");
+            order.append("concurrent,");
+        };
+
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.HIGHEST, false, true, concurrent);
+        TestCancelableEvent.EVENT_TYPE.addListener(EventPriority.LOWEST, sequential);
+
+        var result = TestCancelableEvent.EVENT_TYPE.postAsync().join();
+        Assertions.assertFalse(result::wasPassed, "Async event was passed, expected to be posted");
+        Assertions.assertEquals("sequential,concurrent,", order.toString(), "Concurrent listeners were not invoked after sequential listeners");
+        Assertions.assertTrue(TestEvent.EVENT_TYPE.postAsync().join()::wasPassed, "Async event was not passed, It should have been");
+
+        TestCancelableEvent.EVENT_TYPE.removeListener(concurrent);
+        TestCancelableEvent.EVENT_TYPE.removeListener(sequential);
+    }
+
+    @Test
+    void batched()
+    {
+        var counter = new AtomicInteger();
+        Consumer<TestPooledEvent> listener = event -> {
+            counter.incrementAndGet();
+            if(event.value % 2 == 1) event.cancel();
+        };
+
+        var batch = List.of(new Object[] { 0 }, new Object[] { 1 }, new Object[] { 2 }, new Object[] { 3 });
+        Assertions.assertTrue(TestPooledEvent.EVENT_TYPE.postAll(batch)::wasPassed, "Batch was not passed, It should have been");
+
+        TestPooledEvent.EVENT_TYPE.addListener(listener);
+
+        var result = TestPooledEvent.EVENT_TYPE.postAll(batch);
+        Assertions.assertEquals(4, result.size(), "Batch result has wrong size");
+        Assertions.assertEquals(4, counter.get(), "Listener was not invoked for every event in the batch");
+        Assertions.assertEquals(BitSet.valueOf(new long[] { 0b1010 }), result.cancelled(), "Batch result reported wrong cancelled events");
+
+        var result1 = TestPooledEvent.EVENT_TYPE.postAllEvents(List.of(new TestPooledEvent(1), new TestPooledEvent(2)));
+        Assertions.assertTrue(() -> result1.wasCancelled(0) && !result1.wasCancelled(1), "Batch result reported wrong cancelled events");
+
+        // batches reset through the matching arity overload, arities the event does not take are rejected
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> TestPooledEvent.EVENT_TYPE.post(1, 2), "Pooled event was reset with an arg count it does not take");
+
+        TestPooledEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void registry()
+    {
+        Assertions.assertSame(TestEvent.EVENT_TYPE, EventType.of(TestEvent.class), "Registered event type was not found");
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.register(TestEvent.class), "Duplicate event type registration was allowed");
+        Assertions.assertSame(TestEvent.EVENT_TYPE, EventType.of(TestEvent.class), "Duplicate event type registration replaced the original");
+
+        // metrics MBeans are only registered once the event type itself was
+        Assertions.assertThrows(IllegalStateException.class, () -> EventType.builder(TestEvent.class).metrics().register(), "Duplicate event type registration was allowed");
+        Assertions.assertFalse(() -> ManagementFactory.getPlatformMBeanServer().isRegistered(metricsName(TestEvent.class)), "Duplicate event type registration registered a metrics MBean");
+    }
+
+    private static ObjectName metricsName(Class<?> classType)
+    {
+        try
+        {
+            return new ObjectName("xyz.apex.utils.events:type=EventType,name=%s".formatted(ObjectName.quote(classType.getName())));
+        }
+        catch(MalformedObjectNameException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void hierarchy()
+    {
+        var counter = new AtomicInteger();
+        Consumer<CancellableEvent> listener = event -> counter.incrementAndGet();
+
+        EventType.addHierarchyListener(CancellableEvent.class, listener);
+        TestCancelableEvent.EVENT_TYPE.post();
+        TestShortCircuitEvent.EVENT_TYPE.post();
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(2, counter.get(), "Hierarchy listener was not invoked for every matching event type");
+
+        EventType.removeHierarchyListener(CancellableEvent.class, listener);
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(2, counter.get(), "Hierarchy listener was invoked after being removed");
+    }
+
+    @Test
+    void metrics()
+    {
+        var metrics = TestArgsEvent.EVENT_TYPE.metrics();
+        Consumer<TestArgsEvent> listener = event -> { };
+
+        TestArgsEvent.EVENT_TYPE.post("test", 0);
+        Assertions.assertEquals(0L, metrics.postCount(), "Metrics were recorded while disabled");
+
+        metrics.setEnabled(true);
+        TestArgsEvent.EVENT_TYPE.post("test", 0);
+        TestArgsEvent.EVENT_TYPE.postAll(List.of(new Object[] { "test", 0 }, new Object[] { "test", 1 }));
+        TestArgsEvent.EVENT_TYPE.addListener(listener);
+        TestArgsEvent.EVENT_TYPE.post("test", 0);
+        TestArgsEvent.EVENT_TYPE.post("test", 0);
+        TestArgsEvent.EVENT_TYPE.postAsync("test", 0).join();
+        metrics.setEnabled(false);
+
+        Assertions.assertEquals(6L, metrics.postCount(), "Metrics recorded wrong post count");
+        Assertions.assertEquals(3L, metrics.passCount(), "Metrics recorded wrong pass count");
+        Assertions.assertEquals(3L, metrics.successCount(), "Metrics recorded wrong success count");
+        Assertions.assertEquals(3L, metrics.listeners().get(0).invocations(), "Metrics recorded wrong listener invocation count");
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.postCount(), "Metrics were not reset");
+        TestArgsEvent.EVENT_TYPE.removeListener(listener);
+
+        // listener major batches record every event & listener too
+        var batchMetrics = TestIsolatedBatchEvent.EVENT_TYPE.metrics();
+        Consumer<TestIsolatedBatchEvent> batchListener = event -> { };
+        TestIsolatedBatchEvent.EVENT_TYPE.addListener(batchListener);
+        batchMetrics.setEnabled(true);
+        TestIsolatedBatchEvent.EVENT_TYPE.postAll(List.of(new Object[0], new Object[0]));
+        batchMetrics.setEnabled(false);
+
+        Assertions.assertEquals(2L, batchMetrics.successCount(), "Metrics recorded wrong listener major success count");
+        Assertions.assertEquals(2L, batchMetrics.listeners().get(0).invocations(), "Metrics recorded wrong listener major invocation count");
+        batchMetrics.reset();
+        TestIsolatedBatchEvent.EVENT_TYPE.removeListener(batchListener);
+    }
+
+    @Test
+    void groups()
+    {
+        var counter = new AtomicInteger();
+        var group = ListenerGroup.create("test");
+        Consumer<TestEvent> listener = event -> { };
+
+        TestEvent.EVENT_TYPE.addListener(listener);
+        group.addListener(TestEvent.EVENT_TYPE, event -> counter.incrementAndGet());
+        group.addListener(TestEvent.EVENT_TYPE, event -> counter.incrementAndGet());
+        group.addHierarchyListener(CancellableEvent.class, EventPriority.NORMAL, false, event -> counter.incrementAndGet());
+
+        TestEvent.EVENT_TYPE.post();
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(3, counter.get(), "Grouped listeners were not invoked");
+
+        group.close();
+        TestEvent.EVENT_TYPE.post();
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(3, counter.get(), "Grouped listeners were invoked after the group was closed");
+        Assertions.assertEquals(List.of(listener), EventTypeHack.listeners(TestEvent.EVENT_TYPE), "Closing group removed listeners it does not own");
+
+        // batched listeners are committed with a single table rebuild, once the batch closes
+        var table = EventTypeHack.table(TestEvent.EVENT_TYPE);
+        group.batch(batch -> {
+            batch.addListener(TestEvent.EVENT_TYPE, event -> counter.incrementAndGet());
+            batch.addListener(TestEvent.EVENT_TYPE, event -> counter.incrementAndGet());
+            batch.addHierarchyListener(CancellableEvent.class, EventPriority.NORMAL, false, event -> counter.incrementAndGet());
+            Assertions.assertSame(table, EventTypeHack.table(TestEvent.EVENT_TYPE), "Batched listener rebuilt the table before the batch closed");
+        });
+
+        Assertions.assertEquals(3, EventTypeHack.listeners(TestEvent.EVENT_TYPE).size(), "Batched listeners were not committed");
+        TestEvent.EVENT_TYPE.post();
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(6, counter.get(), "Batched listeners were not invoked");
+
+        group.close();
+        TestEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void subscribers()
+    {
+        var group = ListenerGroup.create("test");
+        var subscriber = new TestSubscriber();
+        group.subscribe(MethodHandles.lookup(), subscriber);
+        group.subscribeStatic(MethodHandles.lookup(), TestSubscriber.class);
+
+        TestEvent.EVENT_TYPE.post();
+        TestCancelableEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, subscriber.count, "Subscribed instance method was not invoked");
+        Assertions.assertEquals(1, subscriber.cancellableCount, "Subscribed hierarchy method was not invoked");
+        Assertions.assertEquals(1, TestSubscriber.staticCount, "Subscribed static method was not invoked");
+
+        group.close();
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, subscriber.count, "Subscribed method was invoked after the group was closed");
+    }
+
+    @Test
+    void subscribersCollectable() throws Exception
+    {
+        var subscriberClass = subscribePlugin();
+
+        for(var i = 0; i < 100 && subscriberClass.get() != null; i++)
+        {
+            System.gc();
+            Thread.sleep(10L);
+        }
+
+        Assertions.assertNull(subscriberClass.get(), "Subscriber class was not collected after its group was closed");
+    }
+
+    // subscribes & unsubscribes a class defined by a throwaway loader, returning a weak reference to it
+    private static WeakReference<Class<?>> subscribePlugin() throws Exception
+    {
+        var name = TestPluginSubscriber.class.getName();
+        byte[] bytes;
+
+        try(var stream = EventTests.class.getResourceAsStream("/" + name.replace('.', '/') + ".class"))
+        {
+            bytes = Objects.requireNonNull(stream).readAllBytes();
+        }
+
+        var loader = new ClassLoader(EventTests.class.getClassLoader())
+        {
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException
+            {
+                if(!className.equals(name)) return super.loadClass(className, resolve);
+
+                synchronized(getClassLoadingLock(className))
+                {
+                    var loaded = findLoadedClass(className);
+                    return loaded == null ? defineClass(className, bytes, 0, bytes.length) : loaded;
+                }
+            }
+        };
+
+        var subscriberClass = loader.loadClass(name);
+        Assertions.assertNotSame(TestPluginSubscriber.class, subscriberClass, "Subscriber class was not loaded by its own loader");
+
+        var constructor = subscriberClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        var lookup = (MethodHandles.Lookup) subscriberClass.getMethod("lookup").invoke(null);
+
+        var group = ListenerGroup.create("plugin");
+        group.subscribe(lookup, constructor.newInstance());
+        TestEvent.EVENT_TYPE.post();
+        group.close();
+
+        return new WeakReference<>(subscriberClass);
+    }
+
+    @Test
+    void keyed()
+    {
+        var order = new StringBuilder();
+        Consumer<TestKeyedEvent> a = event -> order.append("a,");
+        Consumer<TestKeyedEvent> b = event -> order.append("b,");
+        Consumer<TestKeyedEvent> all = event -> order.append("all,");
+
+        TestKeyedEvent.EVENT_TYPE.addKeyedListener("a", EventPriority.HIGH, false, a);
+        TestKeyedEvent.EVENT_TYPE.addKeyedListener("b", b);
+        TestKeyedEvent.EVENT_TYPE.addListener(all);
+
+        TestKeyedEvent.EVENT_TYPE.post("a");
+        TestKeyedEvent.EVENT_TYPE.post("c");
+        Assertions.assertEquals("a,all,all,", order.toString(), "Keyed listeners were invoked for the wrong keys");
+        Assertions.assertThrows(IllegalStateException.class, () -> TestEvent.EVENT_TYPE.addKeyedListener("a", event -> { }), "None keyed event type accepted a keyed listener");
+        Assertions.assertEquals(3, TestKeyedEvent.EVENT_TYPE.metrics().listeners().size(), "Keyed listeners were missing from metrics");
+
+        Consumer<TestKeyedEvent> b2 = event -> order.append("b2,");
+        var tableA = EventTypeHack.keyedTable(TestKeyedEvent.EVENT_TYPE, "a");
+        TestKeyedEvent.EVENT_TYPE.addKeyedListener("b", b2);
+        Assertions.assertSame(tableA, EventTypeHack.keyedTable(TestKeyedEvent.EVENT_TYPE, "a"), "Keyed table was rebuilt for a listener of another key");
+
+        order.setLength(0);
+        TestKeyedEvent.EVENT_TYPE.post("b");
+        Assertions.assertEquals("b,all,b2,", order.toString(), "Keyed table was not rebuilt for a listener of its key");
+
+        TestKeyedEvent.EVENT_TYPE.removeListener(a);
+        TestKeyedEvent.EVENT_TYPE.removeListener(b);
+        TestKeyedEvent.EVENT_TYPE.removeListener(b2);
+        TestKeyedEvent.EVENT_TYPE.removeListener(all);
+    }
+
+    @Test
+    void weak() throws InterruptedException
+    {
+        var counter = new AtomicInteger();
+        var owner = new Object();
+        TestEvent.EVENT_TYPE.addWeakListener(owner, (o, event) -> counter.incrementAndGet());
+
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, counter.get(), "Weak listener was not invoked while its owner is reachable");
+        Assertions.assertEquals(1, EventTypeHack.listeners(TestEvent.EVENT_TYPE).size(), "Weak listener was not registered");
+
+        owner = null;
+
+        for(var i = 0; i < 10 && !EventTypeHack.listeners(TestEvent.EVENT_TYPE).isEmpty(); i++)
+        {
+            System.gc();
+            Thread.sleep(10L);
+            // any registration change purges stale listeners
+            TestCancelableEvent.EVENT_TYPE.removeListener(event -> { });
+        }
+
+        Assertions.assertTrue(EventTypeHack.listeners(TestEvent.EVENT_TYPE).isEmpty(), "Stale weak listener was not purged");
+        TestEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(1, counter.get(), "Weak listener was invoked after its owner was collected");
+    }
+
+    @Test
+    void exceptionPolicy()
+    {
+        var counter = new AtomicInteger();
+        Consumer<TestIsolatedEvent> failing = event -> {
+            throw new IllegalStateException("Expected test failure");
+        };
+        Consumer<TestIsolatedEvent> listener = event -> counter.incrementAndGet();
+
+        TestIsolatedEvent.EVENT_TYPE.addListener(failing);
+        TestIsolatedEvent.EVENT_TYPE.addListener(listener);
+
+        Assertions.assertTrue(TestIsolatedEvent.EVENT_TYPE.post()::wasSuccess, "Isolated event failed to post, expected success");
+        Assertions.assertEquals(1, counter.get(), "Listener after a failing listener was not invoked");
+        Assertions.assertTrue(() -> EventTypeHack.listeners(TestIsolatedEvent.EVENT_TYPE).contains(failing), "Failing listener was disabled too early");
+
+        TestIsolatedEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(2, counter.get(), "Listener after a failing listener was not invoked");
+        Assertions.assertFalse(() -> EventTypeHack.listeners(TestIsolatedEvent.EVENT_TYPE).contains(failing), "Failing listener was not disabled");
+
+        // inherited listeners are disabled in the table which owns them, & resetting metrics keeps their failures
+        var group = ListenerGroup.create("isolated");
+        group.addHierarchyListener(TestIsolatedEvent.class, EventPriority.NORMAL, false, failing);
+        TestIsolatedEvent.EVENT_TYPE.post();
+        TestIsolatedEvent.EVENT_TYPE.metrics().reset();
+        TestIsolatedEvent.EVENT_TYPE.post();
+        Assertions.assertFalse(() -> EventTypeHack.listeners(TestIsolatedEvent.EVENT_TYPE).contains(failing), "Failing inherited listener was not disabled");
+
+        group.close();
+        TestIsolatedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void exceptionPolicyBatchedAndAsync()
+    {
+        var counter = new AtomicInteger();
+        var concurrentCounter = new AtomicInteger();
+        Consumer<TestIsolatedBatchEvent> failing = event -> {
+            throw new IllegalStateException("Expected test failure");
+        };
+        Consumer<TestIsolatedBatchEvent> listener = event -> counter.incrementAndGet();
+        Consumer<TestIsolatedBatchEvent> concurrentListener = event -> concurrentCounter.incrementAndGet();
+
+        TestIsolatedBatchEvent.EVENT_TYPE.addListener(failing);
+        TestIsolatedBatchEvent.EVENT_TYPE.addListener(listener);
+        TestIsolatedBatchEvent.EVENT_TYPE.addListener(EventPriority.NORMAL, false, true, failing);
+        TestIsolatedBatchEvent.EVENT_TYPE.addListener(EventPriority.NORMAL, false, true, concurrentListener);
+
+        var batch = List.of(new Object[0], new Object[0]);
+        Assertions.assertEquals(2, TestIsolatedBatchEvent.EVENT_TYPE.postAll(batch).size(), "Listener major batch was aborted by a failing listener");
+        Assertions.assertEquals(2, counter.get(), "Listener after a failing listener was not invoked for every event in the batch");
+
+        Assertions.assertTrue(TestIsolatedBatchEvent.EVENT_TYPE.postAsync().join()::wasSuccess, "Async post was failed by an isolated listener");
+        Assertions.assertEquals(3, counter.get(), "Listener after a failing listener was not invoked asynchronously");
+        Assertions.assertEquals(3, concurrentCounter.get(), "Concurrent listener was not invoked asynchronously");
+
+        TestIsolatedBatchEvent.EVENT_TYPE.removeListener(failing);
+        TestIsolatedBatchEvent.EVENT_TYPE.removeListener(listener);
+        TestIsolatedBatchEvent.EVENT_TYPE.removeListener(concurrentListener);
+    }
+
+    @Test
+    void queued() throws InterruptedException
+    {
+        var values = new StringBuffer();
+        Consumer<TestQueuedEvent> listener = event -> values.append(event.value).append(',');
+
+        TestQueuedEvent.EVENT_TYPE.addListener(listener);
+
+        var worker = new Thread(() -> {
+            for(var i = 0; i < 5; i++)
+            {
+                TestQueuedEvent.EVENT_TYPE.enqueue(i);
+            }
+        });
+
+        worker.start();
+        worker.join();
+
+        Assertions.assertEquals("", values.toString(), "Queued event was posted before draining");
+        Assertions.assertEquals(4, TestQueuedEvent.EVENT_TYPE.queuedCount(), "Event was not dropped while the queue was full");
+        Assertions.assertEquals(4, TestQueuedEvent.EVENT_TYPE.drain(), "Wrong number of queued events were drained");
+        Assertions.assertEquals("0,1,2,3,", values.toString(), "Queued events were not posted in order");
+        Assertions.assertEquals(0, TestQueuedEvent.EVENT_TYPE.drain(), "Queue was not empty after draining");
+        Assertions.assertThrows(IllegalStateException.class, () -> TestEvent.EVENT_TYPE.enqueue(), "Enqueued event without a queue");
+
+        TestQueuedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void queuedBlockingDrainer()
+    {
+        var failure = new AtomicReference<Throwable>();
+        Consumer<TestBlockingQueuedEvent> listener = event -> {
+            if(event.value != 0) return;
+            TestBlockingQueuedEvent.EVENT_TYPE.enqueue(1);
+            TestBlockingQueuedEvent.EVENT_TYPE.enqueue(2);
+
+            try
+            {
+                TestBlockingQueuedEvent.EVENT_TYPE.enqueue(3);
+            }
+            catch(IllegalStateException e)
+            {
+                failure.set(e);
+            }
+        };
+
+        TestBlockingQueuedEvent.EVENT_TYPE.addListener(listener);
+        TestBlockingQueuedEvent.EVENT_TYPE.enqueue(0);
+
+        Assertions.assertEquals(1, TestBlockingQueuedEvent.EVENT_TYPE.drain(), "Wrong number of queued events were drained");
+        Assertions.assertNotNull(failure.get(), "Draining thread blocked on its own full queue");
+        Assertions.assertEquals(2, TestBlockingQueuedEvent.EVENT_TYPE.drain(), "Events enqueued while draining were not kept");
+
+        TestBlockingQueuedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void coalesced()
+    {
+        var values = new StringBuffer();
+        Consumer<TestCoalescedEvent> listener = event -> values.append(event.key).append('=').append(event.value).append(',');
+
+        TestCoalescedEvent.EVENT_TYPE.addListener(listener);
+
+        Assertions.assertFalse(TestCoalescedEvent.EVENT_TYPE.coalesce("a", 1), "First event for key was coalesced");
+        Assertions.assertFalse(TestCoalescedEvent.EVENT_TYPE.coalesce("b", 10), "First event for key was coalesced");
+        Assertions.assertTrue(TestCoalescedEvent.EVENT_TYPE.coalesce("a", 2), "Second event for key was not coalesced");
+        Assertions.assertEquals(2, TestCoalescedEvent.EVENT_TYPE.pendingCount(), "Wrong number of pending coalesced events");
+        Assertions.assertEquals("", values.toString(), "Coalesced event was posted before flushing");
+
+        Assertions.assertEquals(2, TestCoalescedEvent.EVENT_TYPE.flush().size(), "Wrong number of coalesced events were flushed");
+        Assertions.assertEquals("a=3,b=10,", values.toString(), "Coalesced events were not merged in order");
+        Assertions.assertEquals(0, TestCoalescedEvent.EVENT_TYPE.flush().size(), "Pending events were not cleared after flushing");
+
+        values.setLength(0);
+        TestCoalescedEvent.EVENT_TYPE.coalesce("a", 1);
+        Assertions.assertThrows(NullPointerException.class, () -> TestCoalescedEvent.EVENT_TYPE.coalesce("a", -1), "Coalescing merger returning null was accepted");
+        Assertions.assertEquals(1, TestCoalescedEvent.EVENT_TYPE.flush().size(), "Pending event was lost after a failed merge");
+        Assertions.assertEquals("a=1,", values.toString(), "Pending event was changed by a failed merge");
+
+        TestCoalescedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void parallel()
+    {
+        var counter = new AtomicInteger();
+        List<Consumer<TestParallelEvent>> listeners = List.of(
+                event -> counter.incrementAndGet(),
+                event -> counter.incrementAndGet(),
+                event -> {
+                    counter.incrementAndGet();
+                    event.cancel();
+                },
+                event -> counter.incrementAndGet()
+        );
+
+        listeners.forEach(TestParallelEvent.EVENT_TYPE::addListener);
+
+        var result = TestParallelEvent.EVENT_TYPE.post();
+        Assertions.assertEquals(4, counter.get(), "Not all listeners were invoked in parallel");
+        Assertions.assertTrue(result::wasCancelled, "Parallel event was not cancelled, It should have been");
+        Assertions.assertEquals(EventResult.UNKNOWN_LISTENER, result.cancelledBy(), "Parallel event reported a known cancelling listener");
+
+        listeners.forEach(TestParallelEvent.EVENT_TYPE::removeListener);
+    }
+
+    @Test
+    void generatedFactory()
+    {
+        var values = new StringBuffer();
+        Consumer<TestGeneratedEvent> listener = event -> values.append(event.name).append('=').append(event.value);
+
+        TestGeneratedEvent.EVENT_TYPE.addListener(listener);
+
+        Assertions.assertEquals(2, TestGeneratedEventFactory.FACTORY.arity(), "Generated factory has wrong arity");
+        Assertions.assertTrue(TestGeneratedEvent.EVENT_TYPE.post(1, "a")::wasSuccess, "Generated event failed to post, expected success");
+        Assertions.assertEquals("a=1", values.toString(), "Generated factory passed wrong args");
+
+        TestGeneratedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void compiled()
+    {
+        var order = new StringBuffer();
+        Consumer<TestCompiledEvent> listener0 = event -> order.append("0,");
+        Consumer<TestCompiledEvent> listener1 = event -> order.append("1,");
+        Consumer<TestCompiledEvent> listener2 = event -> order.append("2,");
+
+        TestCompiledEvent.EVENT_TYPE.addListener(listener0);
+        TestCompiledEvent.EVENT_TYPE.addListener(listener1);
+        TestCompiledEvent.EVENT_TYPE.addListener(EventPriority.HIGH, listener2);
+
+        Assertions.assertFalse(() -> EventTypeHack.isCompiled(TestCompiledEvent.EVENT_TYPE), "Dispatch was compiled before being posted");
+        Assertions.assertTrue(TestCompiledEvent.EVENT_TYPE.post()::wasSuccess, "Compiled event failed to post, expected success");
+        Assertions.assertTrue(() -> EventTypeHack.isCompiled(TestCompiledEvent.EVENT_TYPE), "Dispatch was not compiled");
+        Assertions.assertEquals("2,0,1,", order.toString(), "Compiled dispatch invoked listeners in wrong order");
+
+        TestCompiledEvent.EVENT_TYPE.removeListener(listener0);
+        order.setLength(0);
+        TestCompiledEvent.EVENT_TYPE.post();
+        Assertions.assertEquals("2,1,", order.toString(), "Compiled dispatch was not rebuilt after removing a listener");
+
+        TestCompiledEvent.EVENT_TYPE.removeListener(listener1);
+        TestCompiledEvent.EVENT_TYPE.removeListener(listener2);
+    }
+
+    @Test
+    void recorded() throws IOException, InterruptedException
+    {
+        var values = new StringBuffer();
+        Consumer<TestRecordedEvent> listener = event -> values.append(event.name).append('=').append(event.value).append(',');
+        var log = new ByteArrayOutputStream();
+
+        try(var recorder = EventRecorder.create(log))
+        {
+            recorder.record(TestRecordedEvent.EVENT_TYPE, EventCodec.STRING, EventCodec.INTEGER);
+
+            // already being recorded, must not leave a define behind
+            var otherLog = new ByteArrayOutputStream();
+
+            try(var other = EventRecorder.create(otherLog))
+            {
+                Assertions.assertThrows(IllegalStateException.class, () -> other.record(TestRecordedEvent.EVENT_TYPE, EventCodec.STRING, EventCodec.INTEGER), "EventType was recorded twice at once");
+            }
+
+            Assertions.assertEquals(6, otherLog.size(), "Define was written for an EventType which failed to record");
+
+            TestRecordedEvent.EVENT_TYPE.post("a", 1);
+            TestRecordedEvent.EVENT_TYPE.post(new Object[] { "b", 2 });
+
+            // single use iterable, must only be walked once even though it is recorded
+            var batch = List.<Object[]>of(new Object[] { "c", 3 }).iterator();
+            Assertions.assertEquals(1, TestRecordedEvent.EVENT_TYPE.postAll(() -> batch).size(), "Batch args were traversed more than once");
+            Assertions.assertEquals(3, recorder.recordedCount(), "Wrong number of posts were recorded");
+        }
+
+        TestRecordedEvent.EVENT_TYPE.post("d", 4);
+        TestRecordedEvent.EVENT_TYPE.addListener(listener);
+
+        var replayed = EventReplayer.create()
+                .register(TestRecordedEvent.EVENT_TYPE, EventCodec.STRING, EventCodec.INTEGER)
+                .replay(new ByteArrayInputStream(log.toByteArray()), ReplaySpeed.MAXIMUM);
+
+        Assertions.assertEquals(3, replayed, "Wrong number of events were replayed");
+        Assertions.assertEquals("a=1,b=2,c=3,", values.toString(), "Replayed events did not match recorded events");
+
+        TestRecordedEvent.EVENT_TYPE.removeListener(listener);
+    }
+
+    @Test
+    void published() throws InterruptedException
+    {
+        var values = new StringBuffer();
+        var received = new CountDownLatch(2);
+        var subscription = new AtomicReference<Flow.Subscription>();
+
+        TestPublishedEvent.EVENT_TYPE.publisher(2, OverflowPolicy.DROP_OLDEST).subscribe(new Flow.Subscriber<>()
+        {
+            @Override
+            public void onSubscribe(Flow.Subscription s)
+            {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(TestPublishedEvent item)
+            {
+                values.append(item.value).append(',');
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable)
+            {
+            }
+
+            @Override
+            public void onComplete()
+            {
+            }
+        });
+
+        // nothing requested yet, so only the newest events are kept
+        for(var i = 0; i < 4; i++)
+        {
+            TestPublishedEvent.EVENT_TYPE.post(i);
+        }
+
+        Assertions.assertEquals("", values.toString(), "Published event was delivered without demand");
+
+        subscription.get().request(Long.MAX_VALUE);
+        Assertions.assertTrue(received.await(5L, TimeUnit.SECONDS), "Published events were not delivered once requested");
+        Assertions.assertEquals("2,3,", values.toString(), "Oldest published events were not dropped");
+
+        subscription.get().cancel();
+        Assertions.assertTrue(TestPublishedEvent.EVENT_TYPE.post(4)::wasPassed, "Cancelled subscription was not unregistered");
+    }
+
+    @Test
+    void publishedErrors() throws InterruptedException
+    {
+        var delivering = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var errored = new CountDownLatch(1);
+        var error = new AtomicReference<Throwable>();
+        var subscription = new AtomicReference<Flow.Subscription>();
+
+        var subscriber = new Flow.Subscriber<TestPublishedEvent>()
+        {
+            @Override
+            public void onSubscribe(Flow.Subscription s)
+            {
+                subscription.set(s);
+                s.request(1L);
+            }
+
+            @Override
+            public void onNext(TestPublishedEvent item)
+            {
+                delivering.countDown();
+
+                try
+                {
+                    release.await(5L, TimeUnit.SECONDS);
+                }
+                catch(InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable)
+            {
+                error.set(throwable);
+                errored.countDown();
+            }
+
+            @Override
+            public void onComplete()
+            {
+            }
+        };
+
+        TestPublishedEvent.EVENT_TYPE.publisher(2, OverflowPolicy.DROP_OLDEST).subscribe(subscriber);
+        TestPublishedEvent.EVENT_TYPE.post(0);
+        Assertions.assertTrue(delivering.await(5L, TimeUnit.SECONDS), "Published event was not delivered");
+
+        // signals must be serial, so the error waits for onNext to return
+        subscription.get().request(0L);
+        Assertions.assertNull(error.get(), "Error was signalled while onNext was still running");
+        release.countDown();
+        Assertions.assertTrue(errored.await(5L, TimeUnit.SECONDS), "Invalid request was not signalled");
+        Assertions.assertTrue(error.get() instanceof IllegalArgumentException, "Invalid request signalled the wrong error");
+
+        // a rejecting executor fails the subscription instead of leaving it stuck draining
+        var rejected = new AtomicReference<Throwable>();
+        TestRejectedPublishedEvent.EVENT_TYPE.publisher(2, OverflowPolicy.DROP_OLDEST).subscribe(new Flow.Subscriber<>()
+        {
+            @Override
+            public void onSubscribe(Flow.Subscription s)
+            {
+                s.request(1L);
+            }
+
+            @Override
+            public void onNext(TestRejectedPublishedEvent item)
+            {
+            }
+
+            @Override
+            public void onError(Throwable throwable)
+            {
+                rejected.set(throwable);
+            }
+
+            @Override
+            public void onComplete()
+            {
+            }
+        });
+
+        Assertions.assertTrue(TestRejectedPublishedEvent.EVENT_TYPE.post()::wasSuccess, "Rejected delivery failed the post");
+        Assertions.assertTrue(rejected.get() instanceof RejectedExecutionException, "Rejected delivery was not signalled");
+        Assertions.assertTrue(TestRejectedPublishedEvent.EVENT_TYPE.post()::wasPassed, "Rejected subscription was not unregistered");
+    }
+
+    @Test
+    void sticky()
+    {
+        Consumer<TestStickyEvent> canceller = TestStickyEvent::cancel;
+
+        TestStickyEvent.EVENT_TYPE.addKeyedListener("b", canceller);
+        TestStickyEvent.EVENT_TYPE.post("b", 1);
+        TestStickyEvent.EVENT_TYPE.removeListener(canceller);
+
+        TestStickyEvent.EVENT_TYPE.post("a", 2);
+        TestStickyEvent.EVENT_TYPE.post("a", 3);
+
+        var keyed = new StringBuffer();
+        Consumer<TestStickyEvent> keyedListener = event -> keyed.append(event.key).append('=').append(event.value).append(',');
+        TestStickyEvent.EVENT_TYPE.addKeyedListener("a", keyedListener);
+        Assertions.assertEquals("a=3,", keyed.toString(), "Keyed listener did not receive the last sticky event for its key");
+
+        var values = new StringBuffer();
+        Consumer<TestStickyEvent> listener = event -> values.append(event.key).append('=').append(event.value).append(',');
+        TestStickyEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertEquals("a=3,", values.toString(), "Cancelled event was retained as sticky");
+
+        TestStickyEvent.EVENT_TYPE.removeListener(listener);
+        TestStickyEvent.EVENT_TYPE.post("b", 4);
+        TestStickyEvent.EVENT_TYPE.post("c", 5);
+        values.setLength(0);
+        TestStickyEvent.EVENT_TYPE.addListener(listener);
+        Assertions.assertFalse(() -> values.toString().contains("a="), "Sticky events were not bounded by their retention");
+        Assertions.assertEquals(2, values.toString().split(",").length, "Listener did not receive the sticky event of every retained key");
+
+        TestStickyEvent.EVENT_TYPE.removeListener(keyedListener);
+        TestStickyEvent.EVENT_TYPE.removeListener(listener);
+        Assertions.assertTrue(EventTypeHack.listeners(TestStickyEvent.EVENT_TYPE).isEmpty(), "Sticky retention was registered as a listener");
+        Assertions.assertTrue(TestStickyEvent.EVENT_TYPE.metrics().listeners().isEmpty(), "Sticky retention was reported as a listener");
+
+        // retained without any listener registered, while still passed
+        Assertions.assertTrue(TestStickyEvent.EVENT_TYPE.post("d", 6)::wasPassed, "Sticky event without listeners was not passed");
+        Consumer<TestStickyEvent> failing = event -> {
+            throw new IllegalStateException("Failing sticky listener");
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> TestStickyEvent.EVENT_TYPE.addKeyedListener("d", failing), "Sticky listener failure was swallowed");
+        Assertions.assertFalse(() -> EventTypeHack.listeners(TestStickyEvent.EVENT_TYPE).contains(failing), "Listener which failed on a retained event was registered");
+    }
 }
@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.BackpressurePolicy;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestBlockingQueuedEvent implements Event
+{
+    public static final EventType<TestBlockingQueuedEvent> EVENT_TYPE = EventType.builder(TestBlockingQueuedEvent.class).factory(EventFactory.of(Integer.class, TestBlockingQueuedEvent::new)).queue(2, BackpressurePolicy.BLOCK).register();
+
+    public final int value;
+
+    public TestBlockingQueuedEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestCoalescedEvent implements Event
+{
+    public static final EventType<TestCoalescedEvent> EVENT_TYPE = EventType
+            .builder(TestCoalescedEvent.class)
+            .factory(EventFactory.of(String.class, Integer.class, TestCoalescedEvent::new))
+            // negative values merge into null, testing the merger is validated
+            .coalesceBy(event -> event.key, (pending, latest) -> latest.value < 0 ? null : new TestCoalescedEvent(latest.key, pending.value + latest.value))
+            .register();
+
+    public final String key;
+    public final int value;
+
+    public TestCoalescedEvent(String key, Integer value)
+    {
+        this.key = key;
+        this.value = value;
+    }
+}
@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+public final class TestCompiledEvent implements Event
+{
+    public static final EventType<TestCompiledEvent> EVENT_TYPE = EventType.builder(TestCompiledEvent.class).compiled().register();
+}
@@ -0,0 +1,25 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventConstructor;
+import xyz.apex.utils.events.EventType;
+
+public final class TestGeneratedEvent implements Event
+{
+    public static final EventType<TestGeneratedEvent> EVENT_TYPE = TestGeneratedEventFactory.register();
+
+    public final int value;
+    public final String name;
+
+    @EventConstructor
+    public TestGeneratedEvent(int value, String name)
+    {
+        this.value = value;
+        this.name = name;
+    }
+
+    public TestGeneratedEvent()
+    {
+        this(0, "");
+    }
+}
@@ -0,0 +1,11 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.BatchOrder;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ExceptionPolicy;
+
+public final class TestIsolatedBatchEvent implements Event
+{
+    public static final EventType<TestIsolatedBatchEvent> EVENT_TYPE = EventType.builder(TestIsolatedBatchEvent.class).exceptionPolicy(ExceptionPolicy.ISOLATE).batchOrder(BatchOrder.LISTENER_MAJOR).register();
+}
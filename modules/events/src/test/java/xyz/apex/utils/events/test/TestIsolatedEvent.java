@@ -0,0 +1,10 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ExceptionPolicy;
+
+public final class TestIsolatedEvent implements Event
+{
+    public static final EventType<TestIsolatedEvent> EVENT_TYPE = EventType.builder(TestIsolatedEvent.class).exceptionPolicy(ExceptionPolicy.DISABLE, 2).register();
+}
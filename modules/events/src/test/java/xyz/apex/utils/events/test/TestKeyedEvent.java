@@ -0,0 +1,17 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestKeyedEvent implements Event
+{
+    public static final EventType<TestKeyedEvent> EVENT_TYPE = EventType.builder(TestKeyedEvent.class).factory(EventFactory.of(String.class, TestKeyedEvent::new)).keyedBy(event -> event.key).register();
+
+    public final String key;
+
+    public TestKeyedEvent(String key)
+    {
+        this.key = key;
+    }
+}
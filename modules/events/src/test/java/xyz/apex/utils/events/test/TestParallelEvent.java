@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestParallelEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestParallelEvent> EVENT_TYPE = EventType.builder(TestParallelEvent.class).parallel().register();
+}
@@ -0,0 +1,22 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Subscribe;
+
+import java.lang.invoke.MethodHandles;
+
+// loaded through its own class loader in tests, standing in for a plugin which gets unloaded
+public final class TestPluginSubscriber
+{
+    int count = 0;
+
+    public static MethodHandles.Lookup lookup()
+    {
+        return MethodHandles.lookup();
+    }
+
+    @Subscribe
+    void onTest(TestEvent event)
+    {
+        count++;
+    }
+}
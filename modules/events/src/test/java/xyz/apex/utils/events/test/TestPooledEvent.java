@@ -0,0 +1,24 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.ReusableEvent;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestPooledEvent extends SimpleCancelableEvent implements ReusableEvent
+{
+    public static final EventType<TestPooledEvent> EVENT_TYPE = EventType.builder(TestPooledEvent.class).factory(EventFactory.of(Integer.class, TestPooledEvent::new)).pooled().register();
+
+    public int value;
+
+    public TestPooledEvent(Integer value)
+    {
+        this.value = value;
+    }
+
+    @Override
+    public void reset(Object arg0)
+    {
+        value = (Integer) arg0;
+    }
+}
@@ -0,0 +1,17 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestPublishedEvent implements Event
+{
+    public static final EventType<TestPublishedEvent> EVENT_TYPE = EventType.builder(TestPublishedEvent.class).factory(EventFactory.of(Integer.class, TestPublishedEvent::new)).register();
+
+    public final int value;
+
+    public TestPublishedEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
@@ -0,0 +1,18 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.BackpressurePolicy;
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestQueuedEvent implements Event
+{
+    public static final EventType<TestQueuedEvent> EVENT_TYPE = EventType.builder(TestQueuedEvent.class).factory(EventFactory.of(Integer.class, TestQueuedEvent::new)).queue(4, BackpressurePolicy.DROP).register();
+
+    public final int value;
+
+    public TestQueuedEvent(Integer value)
+    {
+        this.value = value;
+    }
+}
@@ -0,0 +1,19 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+
+public final class TestRecordedEvent implements Event
+{
+    public static final EventType<TestRecordedEvent> EVENT_TYPE = EventType.builder(TestRecordedEvent.class).factory(EventFactory.of(String.class, Integer.class, TestRecordedEvent::new)).register();
+
+    public final String name;
+    public final int value;
+
+    public TestRecordedEvent(String name, Integer value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+}
@@ -0,0 +1,13 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.Event;
+import xyz.apex.utils.events.EventType;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public final class TestRejectedPublishedEvent implements Event
+{
+    public static final EventType<TestRejectedPublishedEvent> EVENT_TYPE = EventType.builder(TestRejectedPublishedEvent.class).executor(command -> {
+        throw new RejectedExecutionException("Expected test rejection");
+    }).register();
+}
@@ -0,0 +1,9 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestShortCircuitEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestShortCircuitEvent> EVENT_TYPE = EventType.builder(TestShortCircuitEvent.class).shortCircuit().register();
+}
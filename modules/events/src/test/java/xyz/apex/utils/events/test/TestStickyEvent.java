@@ -0,0 +1,19 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.EventFactory;
+import xyz.apex.utils.events.EventType;
+import xyz.apex.utils.events.SimpleCancelableEvent;
+
+public final class TestStickyEvent extends SimpleCancelableEvent
+{
+    public static final EventType<TestStickyEvent> EVENT_TYPE = EventType.builder(TestStickyEvent.class).factory(EventFactory.of(String.class, Integer.class, TestStickyEvent::new)).keyedBy(event -> event.key).sticky(2).register();
+
+    public final String key;
+    public final int value;
+
+    public TestStickyEvent(String key, Integer value)
+    {
+        this.key = key;
+        this.value = value;
+    }
+}
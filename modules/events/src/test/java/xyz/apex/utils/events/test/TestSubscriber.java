@@ -0,0 +1,30 @@
+package xyz.apex.utils.events.test;
+
+import xyz.apex.utils.events.CancellableEvent;
+import xyz.apex.utils.events.EventPriority;
+import xyz.apex.utils.events.Subscribe;
+
+public final class TestSubscriber
+{
+    static int staticCount = 0;
+    int count = 0;
+    int cancellableCount = 0;
+
+    @Subscribe
+    private void onTest(TestEvent event)
+    {
+        count++;
+    }
+
+    @Subscribe(priority = EventPriority.HIGH)
+    void onCancellable(CancellableEvent event)
+    {
+        cancellableCount++;
+    }
+
+    @Subscribe
+    static void onTestStatic(TestEvent event)
+    {
+        staticCount++;
+    }
+}